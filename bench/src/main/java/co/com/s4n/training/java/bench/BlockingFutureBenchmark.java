@@ -0,0 +1,95 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.InstrumentedExecutor;
+import co.com.s4n.training.java.RejectionPolicy;
+import co.com.s4n.training.java.VirtualThreads;
+import io.vavr.collection.List;
+import io.vavr.concurrent.Future;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Lanza `tasks` cadenas sumar/restar que bloquean `sleepMillis` en cada paso, con un pool de 64
+// hilos de plataforma y con un hilo virtual por tarea. Con hilos de plataforma el tiempo crece con
+// tasks / 64; con hilos virtuales deberia quedarse cerca de 2 * sleepMillis.
+// En un runtime sin hilos virtuales (antes de Java 21) el modo "virtual" falla en @Setup y JMH lo
+// reporta como error; para correr solo el pool de plataforma:
+//   sbt "bench/jmh:run -p mode=platform .*BlockingFutureBenchmark.*"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingFutureBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"1000", "10000"})
+    public int tasks;
+
+    @Param({"10"})
+    public int sleepMillis;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        if ("virtual".equals(mode)) {
+            executor = VirtualThreads.newPerTaskExecutor()
+                    .getOrElseThrow(() -> new IllegalStateException(
+                            "Este runtime no tiene hilos virtuales; use -p mode=platform"));
+        } else {
+            executor = new InstrumentedExecutor("platform", 64, tasks * 2, RejectionPolicy.CALLER_RUNS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Future<Integer> sumar(int a, int b) {
+        return Future.of(executor, () -> {
+            Thread.sleep(sleepMillis);
+            return a + b;
+        });
+    }
+
+    private Future<Integer> restar(int a, int b) {
+        return Future.of(executor, () -> {
+            Thread.sleep(sleepMillis);
+            return a - b;
+        });
+    }
+
+    @Benchmark
+    public Integer vavrChains() {
+        List<Future<Integer>> futures = List.range(0, tasks).map(i -> sumar(i, 1).flatMap(a -> restar(a, 1)));
+        return Future.fold(futures, 0, (x, y) -> x + y).get();
+    }
+
+    @Benchmark
+    public Integer completableFutureChains() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+        for (int i = 0; i < tasks; i++) {
+            int n = i;
+            futures[i] = CompletableFuture.supplyAsync(() -> sleepThen(n + 1), executor)
+                    .thenApplyAsync(a -> sleepThen(a - 1), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+
+    private int sleepThen(int value) {
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
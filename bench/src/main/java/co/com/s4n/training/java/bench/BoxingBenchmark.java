@@ -0,0 +1,56 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.IntObjects;
+import co.com.s4n.training.java.MyClass;
+import co.com.s4n.training.java.MyClassWithInt;
+import co.com.s4n.training.java.MyClassWithIntArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Compara crear los objetos desde un Stream<Integer> (boxing) contra hacerlo desde un IntStream.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoxingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private int[] values;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).toArray();
+    }
+
+    @Benchmark
+    public List<MyClassWithInt> boxedStream() {
+        return IntStream.range(0, size).boxed()
+                .map(MyClassWithInt::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<MyClass> primitiveStream() {
+        return IntStream.range(0, size)
+                .mapToObj(MyClass::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MyClassWithInt[] intFunctionArray() {
+        return IntObjects.toArray(values, MyClassWithInt::new, MyClassWithInt[]::new);
+    }
+
+    @Benchmark
+    public MyClassWithIntArray arrayBacked() {
+        return new MyClassWithIntArray(values.clone());
+    }
+}
@@ -0,0 +1,52 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.Ejercicio;
+import co.com.s4n.training.java.FizzBuzz;
+import co.com.s4n.training.java.ParallelFizzBuzz;
+import io.vavr.control.Option;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FizzBuzzBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private StringBuilder buffer;
+    private ParallelFizzBuzz parallel;
+
+    @Setup
+    public void setup() {
+        buffer = new StringBuilder(64 * 1024);
+        parallel = new ParallelFizzBuzz();
+    }
+
+    @Benchmark
+    public void optionChain(Blackhole bh) {
+        IntStream.rangeClosed(1, size).boxed().forEach(x -> {
+            Option<String> res = Ejercicio.fizz(x)
+                    .flatMap(y -> Ejercicio.buzz(x, y))
+                    .flatMap(z -> Ejercicio.estaVacio(z, x));
+            bh.consume(res);
+        });
+    }
+
+    @Benchmark
+    public void primitiveEngine(Blackhole bh) {
+        FizzBuzz.write(1, size, buffer, 32 * 1024, bh::consume);
+    }
+
+    @Benchmark
+    public void parallelEngine(Blackhole bh) {
+        parallel.write(1, size, bh::consume);
+    }
+}
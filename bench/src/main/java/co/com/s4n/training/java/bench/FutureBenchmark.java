@@ -0,0 +1,52 @@
+package co.com.s4n.training.java.bench;
+
+import io.vavr.collection.List;
+import io.vavr.concurrent.Future;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Suma `size` futuros con Future.fold de vavr y con una cadena de thenCombine de CompletableFuture,
+// ambos sobre el mismo pool.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FutureBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private ExecutorService service;
+
+    @Setup
+    public void setup() {
+        service = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public Integer vavrFold() {
+        List<Future<Integer>> futures = List.range(0, size).map(i -> Future.of(service, () -> i));
+        return Future.fold(futures, 0, (x, y) -> x + y).get();
+    }
+
+    @Benchmark
+    public Integer completableFutureChain() {
+        CompletableFuture<Integer> acc = CompletableFuture.completedFuture(0);
+        for (int i = 0; i < size; i++) {
+            int n = i;
+            acc = acc.thenCombine(CompletableFuture.supplyAsync(() -> n, service), (x, y) -> x + y);
+        }
+        return acc.join();
+    }
+}
@@ -0,0 +1,58 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.ImmutablePerson;
+import co.com.s4n.training.java.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// groupingBy con la persona como llave: Person (hashCode de Lombok en cada llamada) contra
+// ImmutablePerson (hash calculado una vez). Hay `distinct` personas distintas repetidas hasta `size`.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class GroupingByBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"100000"})
+    public int distinct;
+
+    private List<Person> persons;
+    private List<ImmutablePerson> immutablePersons;
+
+    @Setup
+    public void setup() {
+        List<Person> unicas = IntStream.range(0, distinct)
+                .mapToObj(i -> new Person(i % 90, "Nombre" + (i % 3000), "Apellido" + (i % 500), "correo" + i + "@s4n.com"))
+                .collect(Collectors.toList());
+        List<ImmutablePerson> unicasInmutables = unicas.stream()
+                .map(ImmutablePerson::of)
+                .collect(Collectors.toList());
+        persons = IntStream.range(0, size)
+                .mapToObj(i -> unicas.get((int) ((i * 2654435761L) % distinct)))
+                .collect(Collectors.toList());
+        immutablePersons = IntStream.range(0, size)
+                .mapToObj(i -> unicasInmutables.get((int) ((i * 2654435761L) % distinct)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<Person, Long> lombokPerson() {
+        return persons.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<ImmutablePerson, Long> immutablePerson() {
+        return immutablePersons.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
@@ -0,0 +1,54 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.BufferedPersonCollector;
+import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.ConcurrentPersonCollector;
+import co.com.s4n.training.java.PersonCollector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonCollectorBenchmark {
+
+    // PersonCollector es cuadratico en el largo del nombre, por eso no se mide con millones
+    @Param({"1000", "10000"})
+    public int size;
+
+    private List<CollectablePerson> persons;
+
+    @Setup
+    public void setup() {
+        persons = IntStream.range(0, size)
+                .mapToObj(i -> new CollectablePerson("Persona" + i, i % 100))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CollectablePerson personCollector() {
+        return persons.stream().collect(new PersonCollector());
+    }
+
+    @Benchmark
+    public CollectablePerson bufferedPersonCollector() {
+        return persons.stream().collect(new BufferedPersonCollector());
+    }
+
+    @Benchmark
+    public CollectablePerson bufferedPersonCollectorParallel() {
+        return persons.parallelStream().collect(new BufferedPersonCollector());
+    }
+
+    @Benchmark
+    public CollectablePerson concurrentPersonCollectorParallel() {
+        return persons.parallelStream().collect(new ConcurrentPersonCollector());
+    }
+}
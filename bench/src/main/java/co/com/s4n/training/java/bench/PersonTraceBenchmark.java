@@ -0,0 +1,68 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.PersonTrace;
+import co.com.s4n.training.java.RingBufferPersonTrace;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Mide solo el costo de la traza que hace el accumulator de PersonCollector sobre 10M elementos.
+// "print" usa un PrintStream (sincronizado, como System.out) que descarta los bytes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonTraceBenchmark {
+
+    @Param({"10000000"})
+    public int size;
+
+    @Param({"none", "ring", "print"})
+    public String mode;
+
+    private PersonTrace trace;
+    private CollectablePerson person;
+
+    @Setup
+    public void setup() {
+        person = new CollectablePerson("Juan", 10);
+        switch (mode) {
+            case "ring":
+                trace = new RingBufferPersonTrace(1024);
+                break;
+            case "print":
+                PrintStream out = new PrintStream(new OutputStream() {
+                    @Override
+                    public void write(int b) {
+                    }
+                });
+                trace = (String stage, Object a, Object b) -> out.println(PersonTrace.format(stage, a, b));
+                break;
+            default:
+                trace = PersonTrace.NONE;
+        }
+    }
+
+    @Benchmark
+    public long sequential() {
+        return IntStream.range(0, size).filter(this::accumulate).count();
+    }
+
+    @Benchmark
+    public long parallel() {
+        return IntStream.range(0, size).parallel().filter(this::accumulate).count();
+    }
+
+    private boolean accumulate(int i) {
+        if (trace.isEnabled()) {
+            trace.trace("accumulator", person.name, person.name);
+        }
+        return (i & 1) == 0;
+    }
+}
@@ -0,0 +1,39 @@
+package co.com.s4n.training.java.bench;
+
+import co.com.s4n.training.java.jdk.EjercicioConTry;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// El ciclo de EjercicioConTrySuite.testFizzBuzzWithTry con Try.of(() -> ...) contra los Success
+// precalculados. Correr con -prof gc para ver gc.alloc.rate.norm.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+    @Benchmark
+    public void tryOf(Blackhole bh) {
+        EjercicioConTry.streamNumbers().forEach(x -> {
+            Try<String> res = EjercicioConTry.fizz(x)
+                    .flatMap(y -> EjercicioConTry.buzz(x, y))
+                    .flatMap(z -> EjercicioConTry.estaVacio(z, x));
+            bh.consume(res);
+        });
+    }
+
+    @Benchmark
+    public void successConstants(Blackhole bh) {
+        EjercicioConTry.streamNumbers().forEach(x -> {
+            Try<String> res = EjercicioConTry.fizzSuccess(x)
+                    .flatMap(y -> EjercicioConTry.buzzSuccess(x, y))
+                    .flatMap(z -> EjercicioConTry.estaVacioSuccess(z, x));
+            bh.consume(res);
+        });
+    }
+}
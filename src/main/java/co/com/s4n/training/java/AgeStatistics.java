@@ -0,0 +1,90 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+
+// Conteo, suma, minimo, maximo, promedio e histograma de edades calculados en una sola pasada.
+// El histograma tiene `buckets` rangos de `bucketWidth` años: [0, w), [w, 2w), ... Las edades
+// negativas cuentan en el primero y las que pasan del ultimo rango en el ultimo.
+public class AgeStatistics {
+
+    private final int bucketWidth;
+    private final long[] histogram;
+    private long count = 0;
+    private long sum = 0;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public AgeStatistics(){
+        this(10, 13);
+    }
+
+    public AgeStatistics(int bucketWidth, int buckets){
+        if (bucketWidth <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("bucketWidth y buckets deben ser positivos");
+        }
+        this.bucketWidth = bucketWidth;
+        this.histogram = new long[buckets];
+    }
+
+    public void accept(int age){
+        count++;
+        sum += age;
+        if (age < min) min = age;
+        if (age > max) max = age;
+        int b = age < 0 ? 0 : Math.min(age / bucketWidth, histogram.length - 1);
+        histogram[b]++;
+    }
+
+    public AgeStatistics combine(AgeStatistics other){
+        if (other.bucketWidth != bucketWidth || other.histogram.length != histogram.length) {
+            throw new IllegalArgumentException("No se pueden combinar histogramas con distintos rangos");
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        return this;
+    }
+
+    public long getCount(){
+        return count;
+    }
+
+    public long getSum(){
+        return sum;
+    }
+
+    public int getMin(){
+        return min;
+    }
+
+    public int getMax(){
+        return max;
+    }
+
+    public double getAverage(){
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    public int getBucketWidth(){
+        return bucketWidth;
+    }
+
+    public long[] getHistogram(){
+        return histogram.clone();
+    }
+
+    // Numero de edades en el rango [bucket * bucketWidth, (bucket + 1) * bucketWidth)
+    public long getBucket(int bucket){
+        return histogram[bucket];
+    }
+
+    @Override
+    public String toString(){
+        return "AgeStatistics(count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+                + ", average=" + getAverage() + ", histogram=" + Arrays.toString(histogram) + ")";
+    }
+}
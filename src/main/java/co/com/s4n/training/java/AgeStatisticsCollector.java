@@ -0,0 +1,62 @@
+package co.com.s4n.training.java;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+// Reemplaza varias pasadas de averagingInt/summarizingInt/groupingBy por una sola. En paralelo cada
+// split llena su propio AgeStatistics y combinarlos es sumar unos cuantos long.
+public class AgeStatisticsCollector<T> implements Collector<T, AgeStatistics, AgeStatistics> {
+
+    private final ToIntFunction<? super T> age;
+    private final int bucketWidth;
+    private final int buckets;
+
+    public AgeStatisticsCollector(ToIntFunction<? super T> age){
+        this(age, 10, 13);
+    }
+
+    public AgeStatisticsCollector(ToIntFunction<? super T> age, int bucketWidth, int buckets){
+        this.age = age;
+        this.bucketWidth = bucketWidth;
+        this.buckets = buckets;
+    }
+
+    public static AgeStatisticsCollector<Person> forPerson(){
+        return new AgeStatisticsCollector<>(Person::getEdad);
+    }
+
+    public static AgeStatisticsCollector<CollectablePerson> forCollectablePerson(){
+        return new AgeStatisticsCollector<>((CollectablePerson p) -> p.age);
+    }
+
+    @Override
+    public Supplier<AgeStatistics> supplier() {
+        return () -> new AgeStatistics(bucketWidth, buckets);
+    }
+
+    @Override
+    public BiConsumer<AgeStatistics, T> accumulator() {
+        return (AgeStatistics stats, T t) -> stats.accept(age.applyAsInt(t));
+    }
+
+    @Override
+    public BinaryOperator<AgeStatistics> combiner() {
+        return AgeStatistics::combine;
+    }
+
+    @Override
+    public Function<AgeStatistics, AgeStatistics> finisher() {
+        return Function.identity();
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.IDENTITY_FINISH, Characteristics.UNORDERED);
+    }
+}
@@ -0,0 +1,38 @@
+package co.com.s4n.training.java;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Igual que PersonCollector pero acumula los nombres en un StringBuilder y solo crea
+// el CollectablePerson en el finisher, asi no se copia el String en cada elemento.
+public class BufferedPersonCollector implements Collector<CollectablePerson, PersonBuffer, CollectablePerson> {
+    @Override
+    public Supplier<PersonBuffer> supplier() {
+        return PersonBuffer::new;
+    }
+
+    @Override
+    public BiConsumer<PersonBuffer, CollectablePerson> accumulator() {
+        return PersonBuffer::add;
+    }
+
+    @Override
+    public BinaryOperator<PersonBuffer> combiner() {
+        return PersonBuffer::merge;
+    }
+
+    @Override
+    public Function<PersonBuffer, CollectablePerson> finisher() {
+        return PersonBuffer::toCollectablePerson;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.UNORDERED);
+    }
+}
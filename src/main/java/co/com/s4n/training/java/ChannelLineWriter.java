@@ -0,0 +1,137 @@
+package co.com.s4n.training.java;
+
+import io.vavr.control.Try;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Codifica texto en un ByteBuffer directo y solo escribe al canal cuando el buffer se llena,
+// en vez de hacer un println sincronizado por resultado. La memoria usada es siempre la del
+// buffer, sin importar cuantos resultados se escriban. Al cerrarlo tambien se cierra el canal.
+public class ChannelLineWriter implements Consumer<CharSequence>, Closeable {
+
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+    // Un par sustituto ocupa 4 bytes en UTF-8; con menos espacio encode() nunca podria avanzar
+    public static final int MIN_CAPACITY = 4;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private long bytesWritten = 0;
+
+    public ChannelLineWriter(WritableByteChannel channel){
+        this(channel, DEFAULT_CAPACITY);
+    }
+
+    public ChannelLineWriter(WritableByteChannel channel, int capacity){
+        if (capacity < MIN_CAPACITY) {
+            throw new IllegalArgumentException("capacity debe ser al menos " + MIN_CAPACITY + ": " + capacity);
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    public static ChannelLineWriter toFile(Path path) throws IOException {
+        return new ChannelLineWriter(FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    @Override
+    public void accept(CharSequence cs){
+        int n = cs.length();
+        for (int i = 0; i < n; i++) {
+            char c = cs.charAt(i);
+            if (c >= 0x80) {
+                encode(cs, i);
+                return;
+            }
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) c);
+        }
+    }
+
+    public void writeLine(CharSequence cs){
+        accept(cs);
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) '\n');
+    }
+
+    // Escribe cada Success como una linea y se detiene en el primer Failure, que es lo que retorna.
+    public Try<Long> writeAll(Stream<Try<String>> results){
+        long count = 0;
+        Iterator<Try<String>> it = results.iterator();
+        while (it.hasNext()) {
+            Try<String> res = it.next();
+            if (res.isFailure()) {
+                return Try.failure(res.getCause());
+            }
+            Try<Void> written = Try.run(() -> writeLine(res.get()));
+            if (written.isFailure()) {
+                return Try.failure(written.getCause());
+            }
+            count++;
+        }
+        return Try.success(count);
+    }
+
+    public void flush(){
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    public long bytesWritten(){
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void encode(CharSequence cs, int from){
+        CharBuffer in = CharBuffer.wrap(cs, from, cs.length());
+        encoder.reset();
+        while (true) {
+            CoderResult r = encoder.encode(in, buffer, true);
+            if (r.isOverflow()) {
+                flush();
+            } else if (r.isUnderflow()) {
+                break;
+            } else {
+                throw new UncheckedIOException(new IOException("No se pudo codificar: " + r));
+            }
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            flush();
+        }
+    }
+}
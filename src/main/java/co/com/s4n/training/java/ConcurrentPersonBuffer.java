@@ -0,0 +1,54 @@
+package co.com.s4n.training.java;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contenedor compartido por todos los hilos: cada hilo escribe en su propio segmento de
+// nombres y las edades se suman en un LongAdder, asi ningun hilo bloquea a los demas.
+// Los segmentos se buscan por hilo en un mapa del propio contenedor y no en un ThreadLocal: un
+// ThreadLocal deja los segmentos colgados de los hilos del pool despues del collect.
+public class ConcurrentPersonBuffer {
+    private final LongAdder age = new LongAdder();
+    private final Queue<StringBuilder> segments = new ConcurrentLinkedQueue<>();
+    private final Map<Thread, StringBuilder> byThread = new ConcurrentHashMap<>();
+
+    public void add(CollectablePerson p){
+        segment().append(' ').append(p.name);
+        age.add(p.age);
+    }
+
+    private StringBuilder segment(){
+        Thread thread = Thread.currentThread();
+        // get() primero: en Java 8 computeIfAbsent bloquea la casilla aun si la llave ya existe
+        StringBuilder sb = byThread.get(thread);
+        if (sb == null) {
+            sb = byThread.computeIfAbsent(thread, t -> {
+                StringBuilder created = new StringBuilder();
+                segments.add(created);
+                return created;
+            });
+        }
+        return sb;
+    }
+
+    public ConcurrentPersonBuffer merge(ConcurrentPersonBuffer other){
+        segments.addAll(other.segments);
+        age.add(other.age.sum());
+        return this;
+    }
+
+    public CollectablePerson toCollectablePerson(){
+        int length = 0;
+        for (StringBuilder sb : segments) {
+            length = length + sb.length();
+        }
+        StringBuilder names = new StringBuilder(length);
+        for (StringBuilder sb : segments) {
+            names.append(sb);
+        }
+        return new CollectablePerson(names.toString(), (int) age.sum());
+    }
+}
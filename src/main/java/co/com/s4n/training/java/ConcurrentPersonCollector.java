@@ -0,0 +1,38 @@
+package co.com.s4n.training.java;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Con CONCURRENT y UNORDERED un parallel().collect(...) usa un solo contenedor para todos los
+// hilos en vez de crear uno por split y combinarlos. El orden de los nombres no esta definido.
+public class ConcurrentPersonCollector implements Collector<CollectablePerson, ConcurrentPersonBuffer, CollectablePerson> {
+    @Override
+    public Supplier<ConcurrentPersonBuffer> supplier() {
+        return ConcurrentPersonBuffer::new;
+    }
+
+    @Override
+    public BiConsumer<ConcurrentPersonBuffer, CollectablePerson> accumulator() {
+        return ConcurrentPersonBuffer::add;
+    }
+
+    @Override
+    public BinaryOperator<ConcurrentPersonBuffer> combiner() {
+        return ConcurrentPersonBuffer::merge;
+    }
+
+    @Override
+    public Function<ConcurrentPersonBuffer, CollectablePerson> finisher() {
+        return ConcurrentPersonBuffer::toCollectablePerson;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.CONCURRENT, Characteristics.UNORDERED);
+    }
+}
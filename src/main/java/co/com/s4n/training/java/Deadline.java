@@ -0,0 +1,35 @@
+package co.com.s4n.training.java;
+
+import java.util.concurrent.TimeUnit;
+
+// Instante absoluto (segun System.nanoTime) antes del cual debe terminar una cadena de futuros
+public final class Deadline {
+
+    private final long nanos;
+
+    private Deadline(long nanos){
+        this.nanos = nanos;
+    }
+
+    public static Deadline in(long amount, TimeUnit unit){
+        return new Deadline(System.nanoTime() + unit.toNanos(amount));
+    }
+
+    public long remaining(TimeUnit unit){
+        return unit.convert(Math.max(0, nanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isExpired(){
+        return nanos - System.nanoTime() <= 0;
+    }
+
+    // El mas cercano de los dos
+    public Deadline min(Deadline other){
+        return nanos - other.nanos <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString(){
+        return "Deadline(" + remaining(TimeUnit.MILLISECONDS) + "ms)";
+    }
+}
@@ -0,0 +1,188 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// CompletableFuture que lleva un Deadline a traves de thenApply, thenCompose y thenCombine.
+// Todas las etapas de la cadena, incluidos los futuros internos de thenCompose, quedan registradas;
+// cuando vence el plazo se completan con TimeoutException, de modo que nadie sigue esperando una
+// etapa lenta. Las funciones que aun no han empezado no corren si el plazo ya vencio.
+// El vencimiento lo dispara la rueda compartida HashedWheelTimer, no un hilo por cada timeout.
+public final class DeadlineFuture<T> {
+
+    private final CompletableFuture<T> stage;
+    private final Scope scope;
+
+    private DeadlineFuture(CompletableFuture<T> stage, Scope scope){
+        this.stage = stage;
+        this.scope = scope;
+    }
+
+    public static <T> DeadlineFuture<T> supplyAsync(Supplier<T> supplier, Executor executor, Deadline deadline){
+        return supplyAsync(supplier, executor, deadline, HashedWheelTimer.shared());
+    }
+
+    public static <T> DeadlineFuture<T> supplyAsync(Supplier<T> supplier, Executor executor, Deadline deadline,
+                                                    HashedWheelTimer timer){
+        Scope scope = new Scope(deadline, executor, timer);
+        return scope.track(CompletableFuture.supplyAsync(() -> {
+            scope.checkDeadline();
+            return supplier.get();
+        }, executor));
+    }
+
+    // Pone un futuro que ya existe bajo un plazo
+    public static <T> DeadlineFuture<T> of(CompletableFuture<T> future, Executor executor, Deadline deadline){
+        return new Scope(deadline, executor, HashedWheelTimer.shared()).track(future);
+    }
+
+    // Equivalente en Java 8 de CompletableFuture.orTimeout: completa `future` con TimeoutException
+    // si no termina en `timeout`, y libera el temporizador si termina antes
+    public static <T> CompletableFuture<T> orTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit){
+        HashedWheelTimer.Timeout t = HashedWheelTimer.shared().schedule(
+                () -> future.completeExceptionally(new TimeoutException("Timeout de " + timeout + " " + unit)),
+                timeout, unit);
+        future.whenComplete((v, e) -> t.cancel());
+        return future;
+    }
+
+    public <U> DeadlineFuture<U> thenApply(Function<? super T, ? extends U> fn){
+        return scope.track(stage.thenApply(v -> {
+            scope.checkDeadline();
+            return fn.apply(v);
+        }));
+    }
+
+    public <U> DeadlineFuture<U> thenApplyAsync(Function<? super T, ? extends U> fn){
+        return scope.track(stage.thenApplyAsync(v -> {
+            scope.checkDeadline();
+            return fn.apply(v);
+        }, scope.executor));
+    }
+
+    public <U> DeadlineFuture<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn){
+        return scope.track(stage.thenCompose(v -> {
+            scope.checkDeadline();
+            CompletableFuture<U> inner = fn.apply(v).toCompletableFuture();
+            scope.track(inner);
+            return inner;
+        }));
+    }
+
+    public <U, V> DeadlineFuture<V> thenCombine(CompletionStage<? extends U> other,
+                                                BiFunction<? super T, ? super U, ? extends V> fn){
+        scope.track(other.toCompletableFuture());
+        return scope.track(stage.thenCombine(other, (a, b) -> {
+            scope.checkDeadline();
+            return fn.apply(a, b);
+        }));
+    }
+
+    public Deadline deadline(){
+        return scope.deadline;
+    }
+
+    public boolean isDone(){
+        return stage.isDone();
+    }
+
+    public T join(){
+        return stage.join();
+    }
+
+    public CompletableFuture<T> toCompletableFuture(){
+        return stage;
+    }
+
+    private static final class Scope {
+        private final Deadline deadline;
+        private final Executor executor;
+        private final HashedWheelTimer timer;
+        // Etapas sin terminar y el timeout de la rueda; el timeout solo existe mientras haya etapas,
+        // para que una cadena que ya termino no deje nada programado hasta el plazo
+        private final Set<CompletableFuture<?>> outstanding = new HashSet<>();
+        private HashedWheelTimer.Timeout expiry;
+        private volatile boolean expired = false;
+
+        Scope(Deadline deadline, Executor executor, HashedWheelTimer timer){
+            this.deadline = deadline;
+            this.executor = executor;
+            this.timer = timer;
+        }
+
+        <U> DeadlineFuture<U> track(CompletableFuture<U> future){
+            if (!future.isDone()) {
+                synchronized (this) {
+                    outstanding.add(future);
+                    if (expiry == null && !expired) {
+                        expiry = timer.schedule(this::dispatchExpire, deadline.remaining(TimeUnit.NANOSECONDS),
+                                TimeUnit.NANOSECONDS);
+                    }
+                }
+                future.whenComplete((v, e) -> release(future));
+                if (expired) {
+                    future.completeExceptionally(timeout());
+                }
+            }
+            return new DeadlineFuture<>(future, this);
+        }
+
+        private synchronized void release(CompletableFuture<?> future){
+            outstanding.remove(future);
+            if (outstanding.isEmpty() && expiry != null) {
+                expiry.cancel();
+                expiry = null;
+            }
+        }
+
+        // Corre en el hilo de la rueda. Completar las etapas corre sus dependientes sincronicos, asi
+        // que se pasa al executor
+        private void dispatchExpire(){
+            synchronized (this) {
+                expiry = null;
+                if (outstanding.isEmpty()) {
+                    return;
+                }
+            }
+            try {
+                executor.execute(this::expire);
+            } catch (RejectedExecutionException e) {
+                expire();
+            }
+        }
+
+        void checkDeadline(){
+            if (expired || deadline.isExpired()) {
+                throw new CompletionException(timeout());
+            }
+        }
+
+        void expire(){
+            List<CompletableFuture<?>> pending;
+            synchronized (this) {
+                expired = true;
+                pending = new ArrayList<>(outstanding);
+            }
+            TimeoutException timeout = timeout();
+            for (CompletableFuture<?> future : pending) {
+                future.completeExceptionally(timeout);
+            }
+        }
+
+        private TimeoutException timeout(){
+            return new TimeoutException("Se vencio el plazo de la cadena");
+        }
+    }
+}
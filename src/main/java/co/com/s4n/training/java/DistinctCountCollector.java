@@ -0,0 +1,58 @@
+package co.com.s4n.training.java;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Alternativa a map(...).distinct().count() que no guarda los valores: los pasa por un HyperLogLog.
+public class DistinctCountCollector<T> implements Collector<T, HyperLogLog, HyperLogLog> {
+
+    private final Function<? super T, String> value;
+    private final int precision;
+
+    public DistinctCountCollector(Function<? super T, String> value){
+        this(value, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    public DistinctCountCollector(Function<? super T, String> value, int precision){
+        this.value = value;
+        this.precision = precision;
+    }
+
+    public static DistinctCountCollector<Person> correos(){
+        return new DistinctCountCollector<>(Person::getCorreo);
+    }
+
+    public static DistinctCountCollector<Person> correos(int precision){
+        return new DistinctCountCollector<>(Person::getCorreo, precision);
+    }
+
+    @Override
+    public Supplier<HyperLogLog> supplier() {
+        return () -> new HyperLogLog(precision);
+    }
+
+    @Override
+    public BiConsumer<HyperLogLog, T> accumulator() {
+        return (HyperLogLog hll, T t) -> hll.add(value.apply(t));
+    }
+
+    @Override
+    public BinaryOperator<HyperLogLog> combiner() {
+        return HyperLogLog::merge;
+    }
+
+    @Override
+    public Function<HyperLogLog, HyperLogLog> finisher() {
+        return Function.identity();
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.IDENTITY_FINISH, Characteristics.UNORDERED);
+    }
+}
@@ -19,6 +19,10 @@ public class Ejercicio {
         return IntStream.range(1,101).boxed();
     }
 
+    public static Option<String> fizzBuzz(int i){
+        return Option.of(FizzBuzz.of(i));
+    }
+
     public static Option<String> estaVacio(String s, Integer i){
         return s.isEmpty() ? Option.of(i.toString()):Option.of(s);
     }
@@ -0,0 +1,110 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Registro de pools con nombre para compartirlos en vez de crear un newCachedThreadPool o un
+// newSingleThreadExecutor en cada llamada. Cada pool se crea una sola vez con su tamaño, cola y
+// politica de rechazo, y close() los apaga todos esperando a que terminen sus tareas.
+// Para tareas que bloquean (sleep, get, await) blocking() usa hilos virtuales cuando el runtime los tiene.
+public class ExecutorRegistry implements AutoCloseable {
+
+    private static final ExecutorRegistry SHARED = new ExecutorRegistry();
+
+    private final Map<String, InstrumentedExecutor> pools = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorService> virtuals = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    public static ExecutorRegistry shared(){
+        return SHARED;
+    }
+
+    // Retorna el pool `name`, creandolo con esta configuracion si no existe
+    public InstrumentedExecutor pool(String name, int threads, int queueCapacity, RejectionPolicy policy){
+        if (closed) {
+            throw new IllegalStateException("El registro de executors ya se cerro");
+        }
+        return pools.computeIfAbsent(name, n -> new InstrumentedExecutor(n, threads, queueCapacity, policy));
+    }
+
+    // Executor `name` para tareas bloqueantes: un hilo virtual por tarea si el runtime lo soporta,
+    // si no un pool de `fallbackThreads` hilos de plataforma que corre en el llamador cuando se llena
+    public ExecutorService blocking(String name, int fallbackThreads, int queueCapacity){
+        if (closed) {
+            throw new IllegalStateException("El registro de executors ya se cerro");
+        }
+        if (pools.containsKey(name) || !VirtualThreads.isAvailable()) {
+            return pool(name, fallbackThreads, queueCapacity, RejectionPolicy.CALLER_RUNS);
+        }
+        return virtuals.computeIfAbsent(name, n -> VirtualThreads.newPerTaskExecutor().get());
+    }
+
+    public InstrumentedExecutor pool(String name){
+        InstrumentedExecutor pool = pools.get(name);
+        if (pool == null) {
+            throw new NoSuchElementException("No hay un pool llamado " + name);
+        }
+        return pool;
+    }
+
+    public Collection<InstrumentedExecutor> pools(){
+        return new ArrayList<>(pools.values());
+    }
+
+    // Apaga el pool y lo saca del registro; las tareas en cola alcanzan a correr durante `timeout`
+    public boolean shutdown(String name, long timeout, TimeUnit unit) throws InterruptedException {
+        ExecutorService virtual = virtuals.remove(name);
+        InstrumentedExecutor pool = pools.remove(name);
+        return (virtual == null || terminate(virtual, timeout, unit)) && (pool == null || terminate(pool, timeout, unit));
+    }
+
+    public boolean shutdownAll(long timeout, TimeUnit unit) throws InterruptedException {
+        List<ExecutorService> all = new ArrayList<>(pools.values());
+        all.addAll(virtuals.values());
+        pools.clear();
+        virtuals.clear();
+        for (ExecutorService pool : all) {
+            pool.shutdown();
+        }
+        boolean ok = true;
+        try {
+            for (ExecutorService pool : all) {
+                ok &= terminate(pool, timeout, unit);
+            }
+        } catch (InterruptedException e) {
+            // Si interrumpen la espera no se deja ningun pool corriendo
+            for (ExecutorService pool : all) {
+                pool.shutdownNow();
+            }
+            throw e;
+        }
+        return ok;
+    }
+
+    // No lanza InterruptedException: si interrumpen la espera los pools se detienen con shutdownNow
+    // y el hilo queda marcado como interrumpido
+    @Override
+    public void close(){
+        closed = true;
+        try {
+            shutdownAll(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean terminate(ExecutorService pool, long timeout, TimeUnit unit) throws InterruptedException {
+        pool.shutdown();
+        if (pool.awaitTermination(timeout, unit)) {
+            return true;
+        }
+        pool.shutdownNow();
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.s4n.training.java;
+
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// FizzBuzz sobre primitivos: no hay boxing ni Option intermedios y los numeros se escriben
+// directo en el buffer que entrega quien llama.
+public class FizzBuzz {
+
+    public static final String FIZZ = "Fizz";
+    public static final String BUZZ = "Buzz";
+    public static final String FIZZ_BUZZ = "FizzBuzz";
+
+    public static IntStream numbers(){
+        return IntStream.rangeClosed(1, 100);
+    }
+
+    public static String of(long n){
+        if (n % 15 == 0) return FIZZ_BUZZ;
+        if (n % 3 == 0) return FIZZ;
+        if (n % 5 == 0) return BUZZ;
+        return Long.toString(n);
+    }
+
+    public static StringBuilder append(StringBuilder out, long n){
+        if (n % 15 == 0) return out.append(FIZZ_BUZZ);
+        if (n % 3 == 0) return out.append(FIZZ);
+        if (n % 5 == 0) return out.append(BUZZ);
+        return out.append(n);
+    }
+
+    // Escribe los resultados de [from, to] separados por '\n' en `buffer`. Cada vez que el buffer
+    // llega a `flushAt` caracteres se entrega a `sink` y se vacia, asi que la memoria usada no
+    // depende del tamaño del rango (que puede llegar hasta Long.MAX_VALUE).
+    public static void write(long from, long to, StringBuilder buffer, int flushAt, Consumer<? super CharSequence> sink){
+        if (from > to) {
+            return;
+        }
+        int m3 = (int) Math.floorMod(from, 3L);
+        int m5 = (int) Math.floorMod(from, 5L);
+        for (long i = from; ; i++) {
+            if (m3 == 0) {
+                buffer.append(m5 == 0 ? FIZZ_BUZZ : FIZZ);
+            } else if (m5 == 0) {
+                buffer.append(BUZZ);
+            } else {
+                buffer.append(i);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= flushAt) {
+                sink.accept(buffer);
+                buffer.setLength(0);
+            }
+            if (i == to) {
+                break;
+            }
+            if (++m3 == 3) m3 = 0;
+            if (++m5 == 5) m5 = 0;
+        }
+        if (buffer.length() > 0) {
+            sink.accept(buffer);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+// FizzBuzz con reglas (divisor, token) configurables. El resultado se repite cada mcm(divisores)
+// numeros, asi que se precalcula una tabla con ese ciclo y cada numero es solo una consulta.
+// Si el ciclo es demasiado grande para tabularlo se evaluan las reglas con modulo.
+public class FizzBuzzRules {
+
+    public static final int MAX_CYCLE = 1 << 18;
+
+    public static final FizzBuzzRules CLASSIC = of(rule(3, FizzBuzz.FIZZ), rule(5, FizzBuzz.BUZZ));
+
+    public static final class Rule {
+        public final int divisor;
+        public final String token;
+
+        public Rule(int divisor, String token) {
+            if (divisor <= 0) {
+                throw new IllegalArgumentException("El divisor debe ser positivo: " + divisor);
+            }
+            this.divisor = divisor;
+            this.token = token;
+        }
+    }
+
+    private final Rule[] rules;
+    private final int cycle;
+    private final String[] table;
+
+    public FizzBuzzRules(List<Rule> rules) {
+        this.rules = rules.toArray(new Rule[0]);
+        long lcm = 1;
+        for (Rule r : this.rules) {
+            lcm = lcm(lcm, r.divisor);
+            if (lcm > MAX_CYCLE) {
+                break;
+            }
+        }
+        if (lcm <= MAX_CYCLE) {
+            this.cycle = (int) lcm;
+            this.table = new String[cycle];
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < cycle; i++) {
+                sb.setLength(0);
+                appendTokens(sb, i);
+                table[i] = sb.length() == 0 ? null : sb.toString();
+            }
+        } else {
+            this.cycle = 0;
+            this.table = null;
+        }
+    }
+
+    public static Rule rule(int divisor, String token) {
+        return new Rule(divisor, token);
+    }
+
+    public static FizzBuzzRules of(Rule... rules) {
+        return new FizzBuzzRules(Arrays.asList(rules));
+    }
+
+    public boolean isTabulated() {
+        return table != null;
+    }
+
+    public int cycle() {
+        return cycle;
+    }
+
+    public String apply(long n) {
+        if (table != null) {
+            String s = table[(int) Math.floorMod(n, (long) cycle)];
+            return s != null ? s : Long.toString(n);
+        }
+        StringBuilder sb = new StringBuilder();
+        appendTokens(sb, n);
+        return sb.length() == 0 ? Long.toString(n) : sb.toString();
+    }
+
+    public StringBuilder append(StringBuilder out, long n) {
+        if (table != null) {
+            String s = table[(int) Math.floorMod(n, (long) cycle)];
+            return s != null ? out.append(s) : out.append(n);
+        }
+        int start = out.length();
+        appendTokens(out, n);
+        return out.length() == start ? out.append(n) : out;
+    }
+
+    // Igual que FizzBuzz.write pero con estas reglas; recorre la tabla con un indice en vez de
+    // calcular el modulo en cada numero.
+    public void write(long from, long to, StringBuilder buffer, int flushAt, Consumer<? super CharSequence> sink) {
+        if (from > to) {
+            return;
+        }
+        int idx = table != null ? (int) Math.floorMod(from, (long) cycle) : 0;
+        for (long i = from; ; i++) {
+            if (table != null) {
+                String s = table[idx];
+                if (s != null) {
+                    buffer.append(s);
+                } else {
+                    buffer.append(i);
+                }
+                if (++idx == cycle) idx = 0;
+            } else {
+                append(buffer, i);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= flushAt) {
+                sink.accept(buffer);
+                buffer.setLength(0);
+            }
+            if (i == to) {
+                break;
+            }
+        }
+        if (buffer.length() > 0) {
+            sink.accept(buffer);
+            buffer.setLength(0);
+        }
+    }
+
+    private void appendTokens(StringBuilder sb, long n) {
+        for (Rule r : rules) {
+            if (n % r.divisor == 0) {
+                sb.append(r.token);
+            }
+        }
+    }
+
+    private static long lcm(long a, long b) {
+        return a / gcd(a, b) * b;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,206 @@
+package co.com.s4n.training.java;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.CheckedFunction1;
+import io.vavr.collection.Array;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+
+// Future.fold y Future.sequence reciben futuros que ya estan corriendo, asi que con decenas de
+// miles de entradas inundan el pool. Aca se reciben las funciones sin lanzar y se mantienen a lo
+// sumo `parallelism` corriendo: cada una que termina lanza la siguiente. Al primer fallo el
+// resultado falla y se cancelan las que siguen en vuelo.
+public final class FutureFolds {
+
+    private FutureFolds(){
+    }
+
+    // Aplica `f` a cada entrada con a lo sumo `parallelism` en vuelo; los resultados quedan en el orden de `inputs`
+    public static <A, B> Future<Seq<B>> traverse(ExecutorService executor, int parallelism,
+                                                 Iterable<? extends A> inputs, CheckedFunction1<? super A, ? extends B> f){
+        return sequence(executor, parallelism, Vector.ofAll(inputs).map(a -> (CheckedFunction0<B>) () -> f.apply(a)));
+    }
+
+    public static <T> Future<Seq<T>> sequence(ExecutorService executor, int parallelism,
+                                              Iterable<? extends CheckedFunction0<? extends T>> suppliers){
+        Vector<CheckedFunction0<? extends T>> tasks = Vector.ofAll(suppliers);
+        Object[] results = new Object[tasks.size()];
+        Promise<Seq<T>> promise = Promise.make(executor);
+        new Window<T>(executor, tasks, promise) {
+            @Override
+            void onSuccess(int index, T value){
+                results[index] = value;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            void onDone(){
+                promise.trySuccess((Seq<T>) (Seq<?>) Array.of(results));
+            }
+        }.start(parallelism);
+        return promise.future();
+    }
+
+    // Pliega los resultados a medida que llegan, en un arbol que respeta el orden de `suppliers`.
+    // `op` debe ser asociativa y `zero` su neutro; no hace falta que sea conmutativa.
+    public static <T> Future<T> foldPar(ExecutorService executor, int parallelism,
+                                        Iterable<? extends CheckedFunction0<? extends T>> suppliers,
+                                        T zero, BinaryOperator<T> op){
+        Vector<CheckedFunction0<? extends T>> tasks = Vector.ofAll(suppliers);
+        Tree<T> tree = new Tree<>(tasks.size(), zero, op);
+        Promise<T> promise = Promise.make(executor);
+        new Window<T>(executor, tasks, promise) {
+            @Override
+            void onSuccess(int index, T value){
+                tree.add(index, value);
+            }
+
+            @Override
+            void onDone(){
+                promise.trySuccess(tree.root());
+            }
+        }.start(parallelism);
+        return promise.future();
+    }
+
+    private abstract static class Window<T> {
+        private final ExecutorService executor;
+        private final Vector<CheckedFunction0<? extends T>> tasks;
+        private final Promise<?> promise;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final Map<Integer, Future<? extends T>> inFlight = new ConcurrentHashMap<>();
+
+        Window(ExecutorService executor, Vector<CheckedFunction0<? extends T>> tasks, Promise<?> promise){
+            this.executor = executor;
+            this.tasks = tasks;
+            this.promise = promise;
+            this.remaining = new AtomicInteger(tasks.size());
+        }
+
+        abstract void onSuccess(int index, T value);
+
+        abstract void onDone();
+
+        void start(int parallelism){
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism debe ser positivo: " + parallelism);
+            }
+            if (tasks.isEmpty()) {
+                onDone();
+                return;
+            }
+            for (int i = Math.min(parallelism, tasks.size()); i > 0; i--) {
+                launchNext();
+            }
+        }
+
+        private void launchNext(){
+            if (promise.isCompleted()) {
+                return;
+            }
+            int index = next.getAndIncrement();
+            if (index >= tasks.size()) {
+                return;
+            }
+            Future<? extends T> future;
+            try {
+                future = Future.of(executor, tasks.get(index));
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            inFlight.put(index, future);
+            future.onComplete(t -> {
+                inFlight.remove(index);
+                if (t.isFailure()) {
+                    fail(t.getCause());
+                } else {
+                    onSuccess(index, t.get());
+                    if (remaining.decrementAndGet() == 0) {
+                        onDone();
+                    } else {
+                        launchNext();
+                    }
+                }
+            });
+            // Si fallo otra mientras se lanzaba esta, fail() pudo no verla
+            if (promise.isCompleted()) {
+                future.cancel(true);
+            }
+        }
+
+        private void fail(Throwable e){
+            if (promise.tryFailure(e)) {
+                inFlight.values().forEach(f -> f.cancel(true));
+            }
+        }
+    }
+
+    // Arbol binario completo sobre las posiciones de entrada: cuando los dos hijos de un nodo estan
+    // listos se combinan en el padre y se sueltan, asi que solo se guardan resultados parciales.
+    // Las hojas de relleno (mas alla de n) valen `zero`.
+    private static final class Tree<T> {
+        private static final Object EMPTY = new Object();
+
+        private final Object[] nodes;
+        private final int leaves;
+        private final BinaryOperator<T> op;
+
+        Tree(int n, T zero, BinaryOperator<T> op){
+            int size = 1;
+            while (size < n) {
+                size <<= 1;
+            }
+            this.leaves = size;
+            this.op = op;
+            this.nodes = new Object[2 * size];
+            Arrays.fill(nodes, EMPTY);
+            Arrays.fill(nodes, size + n, 2 * size, zero);
+            for (int node = size - 1; node >= 1; node--) {
+                if (nodes[2 * node] != EMPTY && nodes[2 * node + 1] != EMPTY) {
+                    nodes[node] = zero;
+                    nodes[2 * node] = EMPTY;
+                    nodes[2 * node + 1] = EMPTY;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void add(int index, T value){
+            int node = leaves + index;
+            T acc = value;
+            while (node > 1) {
+                Object other;
+                synchronized (this) {
+                    other = nodes[node ^ 1];
+                    if (other == EMPTY) {
+                        nodes[node] = acc;
+                        return;
+                    }
+                    nodes[node ^ 1] = EMPTY;
+                }
+                // El hermano esta listo: se combina fuera del candado, respetando izquierda y derecha
+                acc = (node & 1) == 0 ? op.apply(acc, (T) other) : op.apply((T) other, acc);
+                node >>= 1;
+            }
+            synchronized (this) {
+                nodes[1] = acc;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized T root(){
+            return (T) nodes[1];
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+
+// Tabla hash de direccionamiento abierto (sondeo lineal) de llave -> filas. La primera fila de
+// cada llave va en el slot y solo las llaves repetidas (p.ej. apellidos) usan un arreglo extra.
+// Los borrados corren hacia atras el resto del cluster, asi no quedan lapidas.
+public class HashIndex<K> implements PersonIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final Key<K> key;
+    private Object[] keys;
+    private int[] first;
+    private int[][] extra;
+    private int[] extraCount;
+    private int distinct = 0;
+    private int size = 0;
+
+    public HashIndex(Key<K> key){
+        this(key, 16);
+    }
+
+    public HashIndex(Key<K> key, int capacity){
+        this.key = key;
+        int n = Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1;
+        allocate(n);
+    }
+
+    public static HashIndex<String> byCorreo(){
+        return new HashIndex<>(PersonTable::getCorreo);
+    }
+
+    public static HashIndex<String> byApellido(){
+        return new HashIndex<>(PersonTable::getApellido);
+    }
+
+    @Override
+    public void added(PersonTable table, int row) {
+        K k = key.of(table, row);
+        if (k != null) {
+            put(k, row);
+        }
+    }
+
+    @Override
+    public void removed(PersonTable table, int row) {
+        K k = key.of(table, row);
+        if (k != null) {
+            remove(k, row);
+        }
+    }
+
+    // Primera fila con la llave o -1
+    public int find(K k){
+        int i = slot(k);
+        return i < 0 ? -1 : first[i];
+    }
+
+    public int[] findAll(K k){
+        int i = slot(k);
+        if (i < 0) {
+            return NONE;
+        }
+        int[] res = new int[1 + extraCount[i]];
+        res[0] = first[i];
+        if (extraCount[i] > 0) {
+            System.arraycopy(extra[i], 0, res, 1, extraCount[i]);
+        }
+        return res;
+    }
+
+    public int count(K k){
+        int i = slot(k);
+        return i < 0 ? 0 : 1 + extraCount[i];
+    }
+
+    // Numero de filas indexadas
+    public int size(){
+        return size;
+    }
+
+    public int distinctKeys(){
+        return distinct;
+    }
+
+    private void put(K k, int row){
+        int mask = keys.length - 1;
+        int i = hash(k) & mask;
+        while (keys[i] != null) {
+            if (keys[i].equals(k)) {
+                if (extra[i] == null) {
+                    extra[i] = new int[2];
+                } else if (extraCount[i] == extra[i].length) {
+                    extra[i] = Arrays.copyOf(extra[i], extraCount[i] * 2);
+                }
+                extra[i][extraCount[i]++] = row;
+                size++;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = k;
+        first[i] = row;
+        distinct++;
+        size++;
+        if (distinct * 3 > keys.length * 2) {
+            resize();
+        }
+    }
+
+    private void remove(K k, int row){
+        int i = slot(k);
+        if (i < 0) {
+            return;
+        }
+        int n = extraCount[i];
+        if (first[i] == row) {
+            if (n == 0) {
+                delete(i);
+            } else {
+                first[i] = extra[i][n - 1];
+                extraCount[i] = n - 1;
+            }
+            size--;
+            return;
+        }
+        for (int j = 0; j < n; j++) {
+            if (extra[i][j] == row) {
+                extra[i][j] = extra[i][n - 1];
+                extraCount[i] = n - 1;
+                size--;
+                return;
+            }
+        }
+    }
+
+    private void delete(int i){
+        int mask = keys.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (keys[j] == null) {
+                break;
+            }
+            int home = hash(keys[j]) & mask;
+            // Si el slot libre (i) esta entre la posicion ideal de j y j, la entrada se puede correr a i
+            boolean move = i <= j ? (home <= i || home > j) : (home <= i && home > j);
+            if (move) {
+                keys[i] = keys[j];
+                first[i] = first[j];
+                extra[i] = extra[j];
+                extraCount[i] = extraCount[j];
+                i = j;
+            }
+        }
+        keys[i] = null;
+        extra[i] = null;
+        extraCount[i] = 0;
+        distinct--;
+    }
+
+    private int slot(Object k){
+        int mask = keys.length - 1;
+        int i = hash(k) & mask;
+        while (keys[i] != null) {
+            if (keys[i].equals(k)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(){
+        Object[] oldKeys = keys;
+        int[] oldFirst = first;
+        int[][] oldExtra = extra;
+        int[] oldExtraCount = extraCount;
+        allocate(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for (int o = 0; o < oldKeys.length; o++) {
+            if (oldKeys[o] != null) {
+                int i = hash(oldKeys[o]) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[o];
+                first[i] = oldFirst[o];
+                extra[i] = oldExtra[o];
+                extraCount[i] = oldExtraCount[o];
+            }
+        }
+    }
+
+    private void allocate(int n){
+        keys = new Object[n];
+        first = new int[n];
+        extra = new int[n][];
+        extraCount = new int[n];
+    }
+
+    private static int hash(Object k){
+        int h = k.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,160 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Temporizador de rueda: un solo hilo avanza una casilla cada `tick` y corre las tareas cuyo plazo
+// cae en esa casilla. Programar o cancelar es O(1) y no crea un hilo ni una tarea de
+// ScheduledExecutorService por cada timeout, a costa de una precision de un tick.
+// Las tareas corren en el hilo de la rueda, asi que deben ser cortas.
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private static final HashedWheelTimer SHARED = new HashedWheelTimer("s4n-wheel-timer", 10, TimeUnit.MILLISECONDS, 512);
+
+    private final long tickNanos;
+    private final ArrayDeque<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final long start;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick = 0;
+
+    public static HashedWheelTimer shared(){
+        return SHARED;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HashedWheelTimer(String name, long tick, TimeUnit unit, int wheelSize){
+        if (tick <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick y wheelSize deben ser positivos");
+        }
+        // El tamaño de la rueda se redondea a potencia de dos para ubicar la casilla con una mascara
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tick);
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.start = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit){
+        if (!running) {
+            throw new IllegalStateException("El temporizador ya se detuvo");
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(Math.max(0, delay)), active);
+        active.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    // Timeouts que no han corrido ni se han cancelado
+    public int pendingTimeouts(){
+        return active.get();
+    }
+
+    @Override
+    public void close(){
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run(){
+        while (running) {
+            long next = start + (tick + 1) * tickNanos;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    continue;
+                }
+            }
+            transferPending();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPending(){
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long ticks = Math.max(tick, (timeout.deadline - start + tickNanos - 1) / tickNanos);
+            timeout.rounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket){
+        for (int i = bucket.size(); i > 0; i--) {
+            Timeout timeout = bucket.poll();
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                bucket.add(timeout);
+            } else if (timeout.fired.compareAndSet(false, true)) {
+                active.decrementAndGet();
+                try {
+                    timeout.task.run();
+                } catch (Throwable e) {
+                    // Una tarea que falla no debe detener la rueda
+                    Thread t = Thread.currentThread();
+                    t.getUncaughtExceptionHandler().uncaughtException(t, e);
+                }
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private final long deadline;
+        private final AtomicInteger active;
+        private final AtomicBoolean fired = new AtomicBoolean(false);
+        private volatile boolean cancelled = false;
+        private Runnable task;
+        private long rounds;
+
+        private Timeout(Runnable task, long deadline, AtomicInteger active){
+            this.task = task;
+            this.deadline = deadline;
+            this.active = active;
+        }
+
+        // Retorna false si la tarea ya corrio. Un timeout cancelado sigue en su casilla hasta que la
+        // rueda pase por ella, pero suelta la tarea para no retener lo que esta referencia
+        public boolean cancel(){
+            if (fired.compareAndSet(false, true)) {
+                cancelled = true;
+                task = null;
+                active.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled(){
+            return cancelled;
+        }
+
+        public boolean isExpired(){
+            return fired.get() && !cancelled;
+        }
+    }
+}
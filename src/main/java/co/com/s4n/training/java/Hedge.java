@@ -0,0 +1,236 @@
+package co.com.s4n.training.java;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Peticiones con respaldo: se lanza la peticion y, si no ha terminado despues de un retraso, se
+// lanza una segunda igual; gana la primera que termine bien y la otra se cancela (con interrupcion
+// cuando se puede). Si la primera falla antes del retraso el respaldo sale de una vez.
+// El retraso puede ser fijo o un cuantil (por ejemplo p95) de las latencias observadas, de modo que
+// solo ~5% de las peticiones pagan el costo de un duplicado a cambio de cortar la cola de latencia.
+// A diferencia de Future.firstCompletedOf, los perdedores no siguen corriendo.
+public final class Hedge {
+
+    // Latencias que se observan antes de confiar en el cuantil en vez del retraso inicial
+    public static final int MIN_SAMPLES = 20;
+    // Cada cuantas latencias se recalcula el cuantil; quantile() ordena lo retenido, asi que no se
+    // hace en cada peticion
+    public static final int REFRESH_EVERY = 64;
+
+    private final ExecutorService executor;
+    private final HashedWheelTimer timer;
+    private final long initialDelayNanos;
+    private final double quantile;
+    private final IntQuantileSketch latencies = new IntQuantileSketch();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder backups = new LongAdder();
+    private final LongAdder backupWins = new LongAdder();
+    private volatile long delayNanos;
+
+    private Hedge(ExecutorService executor, long initialDelayNanos, double quantile){
+        this.executor = executor;
+        this.timer = HashedWheelTimer.shared();
+        this.initialDelayNanos = initialDelayNanos;
+        this.quantile = quantile;
+        this.delayNanos = initialDelayNanos;
+    }
+
+    // Respaldo despues de un retraso fijo
+    public static Hedge after(ExecutorService executor, long delay, TimeUnit unit){
+        return new Hedge(executor, unit.toNanos(delay), Double.NaN);
+    }
+
+    // Respaldo despues del cuantil `q` de las latencias exitosas, usando `initialDelay` mientras
+    // no haya MIN_SAMPLES latencias
+    public static Hedge atQuantile(ExecutorService executor, double q, long initialDelay, TimeUnit unit){
+        if (q <= 0 || q >= 1) {
+            throw new IllegalArgumentException("El cuantil debe estar en (0, 1): " + q);
+        }
+        return new Hedge(executor, unit.toNanos(initialDelay), q);
+    }
+
+    public long delay(TimeUnit unit){
+        return unit.convert(delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // `supplier` corre en el executor; el perdedor se cancela con interrupcion
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier){
+        return race(done -> {
+            java.util.concurrent.Future<?> task = executor.submit(() -> {
+                T value;
+                try {
+                    value = supplier.get();
+                } catch (Throwable e) {
+                    done.accept(null, e);
+                    return;
+                }
+                done.accept(value, null);
+            });
+            return () -> task.cancel(true);
+        });
+    }
+
+    // Para APIs que ya retornan un CompletionStage: cada intento pide uno nuevo a `request`
+    public <T> CompletableFuture<T> compose(Supplier<? extends CompletionStage<T>> request){
+        return race(done -> {
+            CompletableFuture<T> attempt = request.get().toCompletableFuture();
+            attempt.whenComplete(done);
+            return () -> attempt.cancel(true);
+        });
+    }
+
+    // Igual que supplyAsync pero con Future de vavr, que si interrumpe el hilo al cancelar
+    public <T> Future<T> future(CheckedFunction0<? extends T> computation){
+        CompletableFuture<T> result = race(done -> {
+            Future<T> attempt = Future.of(executor, computation);
+            attempt.onComplete(t -> done.accept(t.getOrNull(), t.isFailure() ? t.getCause() : null));
+            return () -> attempt.cancel(true);
+        });
+        Promise<T> promise = Promise.make(executor);
+        result.whenComplete((v, e) -> promise.complete(e == null ? Try.success(v) : Try.failure(unwrap(e))));
+        return promise.future();
+    }
+
+    public long getRequests(){
+        return requests.sum();
+    }
+
+    public long getBackups(){
+        return backups.sum();
+    }
+
+    public long getBackupWins(){
+        return backupWins.sum();
+    }
+
+    private <T> CompletableFuture<T> race(Function<BiConsumer<? super T, ? super Throwable>, Attempt> launcher){
+        requests.increment();
+        Race<T> race = new Race<>(launcher);
+        race.start();
+        return race.result;
+    }
+
+    private static Throwable unwrap(Throwable e){
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private void record(long nanos){
+        if (Double.isNaN(quantile)) {
+            return;
+        }
+        int micros = (int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMicros(nanos));
+        synchronized (latencies) {
+            latencies.accept(micros);
+            long n = latencies.getCount();
+            if (n == MIN_SAMPLES || (n > MIN_SAMPLES && n % REFRESH_EVERY == 0)) {
+                delayNanos = TimeUnit.MICROSECONDS.toNanos(latencies.quantile(quantile));
+            }
+        }
+    }
+
+    private interface Attempt {
+        void cancel();
+    }
+
+    private final class Race<T> {
+        private static final int ATTEMPTS = 2;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Function<BiConsumer<? super T, ? super Throwable>, Attempt> launcher;
+        private final List<Attempt> attempts = new ArrayList<>(ATTEMPTS);
+        private final long start = System.nanoTime();
+        private int launched = 0;
+        private int failures = 0;
+        private HashedWheelTimer.Timeout backup;
+
+        Race(Function<BiConsumer<? super T, ? super Throwable>, Attempt> launcher){
+            this.launcher = launcher;
+        }
+
+        void start(){
+            launch();
+            synchronized (this) {
+                if (!result.isDone() && launched < ATTEMPTS) {
+                    // El respaldo se lanza desde el executor: en el hilo de la rueda correrian request.get(),
+                    // los dependientes del resultado o, con CALLER_RUNS, el supplier completo
+                    backup = timer.schedule(() -> {
+                        try {
+                            executor.execute(this::launch);
+                        } catch (RejectedExecutionException e) {
+                            launch();
+                        }
+                    }, delayNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            // Si quien pidio el resultado lo cancela, tambien se cancelan los intentos
+            result.whenComplete((v, e) -> cancelAll());
+        }
+
+        synchronized void launch(){
+            if (result.isDone() || launched >= ATTEMPTS) {
+                return;
+            }
+            int index = launched++;
+            if (index > 0) {
+                backups.increment();
+            }
+            try {
+                attempts.add(launcher.apply((v, e) -> complete(index, v, e)));
+            } catch (RuntimeException e) {
+                // Por ejemplo RejectedExecutionException de un pool lleno
+                complete(index, null, e);
+            }
+        }
+
+        synchronized void complete(int index, T value, Throwable error){
+            if (error == null) {
+                if (result.isDone()) {
+                    return;
+                }
+                // Metricas y cancelacion antes de completar, para que quien espera el resultado ya las vea
+                record(System.nanoTime() - start);
+                if (index > 0) {
+                    backupWins.increment();
+                }
+                cancelAll();
+                result.complete(value);
+            } else if (++failures == ATTEMPTS) {
+                result.completeExceptionally(unwrap(error));
+            } else if (launched < ATTEMPTS) {
+                if (backup != null) {
+                    backup.cancel();
+                }
+                launch();
+            }
+        }
+
+        void cancelAll(){
+            List<Attempt> all;
+            synchronized (this) {
+                if (backup != null) {
+                    backup.cancel();
+                }
+                all = new ArrayList<>(attempts);
+            }
+            // Cancelar al ganador no tiene efecto porque ya termino
+            for (Attempt attempt : all) {
+                attempt.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+
+// Conteo aproximado de valores distintos con 2^precision registros de un byte. El error estandar es
+// 1.04 / sqrt(2^precision): con la precision por defecto (12) son 4KB y ~1.6%. Dos contadores con la
+// misma precision se mezclan tomando el maximo de cada registro, asi que se pueden calcular por
+// separado (en cada split de un stream o en cada nodo) y juntar despues, p.ej. con toByteArray.
+public class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+    public static final int DEFAULT_PRECISION = 12;
+    private static final byte VERSION = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(){
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision){
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("La precision debe estar entre " + MIN_PRECISION + " y "
+                    + MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(String s){
+        if (s != null) {
+            addHash(hash(s));
+        }
+    }
+
+    public void addHash(long hash){
+        int index = (int) (hash >>> (64 - precision));
+        long w = hash << precision;
+        int rank = w == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(w) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public HyperLogLog merge(HyperLogLog other){
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("No se pueden mezclar precisiones distintas: "
+                    + precision + " y " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public long estimate(){
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte r : registers) {
+            sum += 1.0 / (1L << r);
+            if (r == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        // Para pocos valores el conteo lineal de registros vacios es mas preciso
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public int getPrecision(){
+        return precision;
+    }
+
+    public byte[] toByteArray(){
+        byte[] res = new byte[2 + registers.length];
+        res[0] = VERSION;
+        res[1] = (byte) precision;
+        System.arraycopy(registers, 0, res, 2, registers.length);
+        return res;
+    }
+
+    public static HyperLogLog fromByteArray(byte[] bytes){
+        if (bytes.length < 2 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Formato de HyperLogLog no soportado");
+        }
+        HyperLogLog hll = new HyperLogLog(bytes[1]);
+        if (bytes.length != 2 + hll.registers.length) {
+            throw new IllegalArgumentException("Se esperaban " + (2 + hll.registers.length) + " bytes y hay " + bytes.length);
+        }
+        System.arraycopy(bytes, 2, hll.registers, 0, hll.registers.length);
+        return hll;
+    }
+
+    @Override
+    public boolean equals(Object o){
+        if (!(o instanceof HyperLogLog)) {
+            return false;
+        }
+        HyperLogLog other = (HyperLogLog) o;
+        return precision == other.precision && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode(){
+        return 31 * precision + Arrays.hashCode(registers);
+    }
+
+    @Override
+    public String toString(){
+        return "HyperLogLog(precision=" + precision + ", estimate=" + estimate() + ")";
+    }
+
+    // FNV-1a de 64 bits sobre los chars, con el mezclador final de MurmurHash3 para repartir los bits altos
+    static long hash(String s){
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static double alpha(int m){
+        switch (m) {
+            case 16: return 0.673;
+            case 32: return 0.697;
+            case 64: return 0.709;
+            default: return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package co.com.s4n.training.java;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+// Version inmutable de Person para usarla como llave de HashMap/groupingBy. El hash se calcula una
+// sola vez, igual que en String: si dos hilos lo calculan a la vez obtienen el mismo valor, asi que
+// el campo no necesita ser volatile. equals compara primero el hash y los campos que mas difieren.
+@Getter
+@ToString(exclude = "hash")
+public final class ImmutablePerson {
+
+    private final int edad;
+    private final String nombre;
+    private final String apellido;
+    private final String correo;
+    @Getter(AccessLevel.NONE)
+    private int hash;
+
+    public ImmutablePerson(int edad, String nombre, String apellido, String correo) {
+        this.edad = edad;
+        this.nombre = nombre;
+        this.apellido = apellido;
+        this.correo = correo;
+    }
+
+    public static ImmutablePerson of(Person p) {
+        return new ImmutablePerson(p.getEdad(), p.getNombre(), p.getApellido(), p.getCorreo());
+    }
+
+    public Person toPerson() {
+        return new Person(edad, nombre, apellido, correo);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = edad;
+            h = 31 * h + (correo == null ? 0 : correo.hashCode());
+            h = 31 * h + (apellido == null ? 0 : apellido.hashCode());
+            h = 31 * h + (nombre == null ? 0 : nombre.hashCode());
+            // 0 significa "sin calcular"
+            if (h == 0) {
+                h = 1;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutablePerson)) {
+            return false;
+        }
+        ImmutablePerson other = (ImmutablePerson) o;
+        return hashCode() == other.hashCode()
+                && edad == other.edad
+                && eq(correo, other.correo)
+                && eq(apellido, other.apellido)
+                && eq(nombre, other.nombre);
+    }
+
+    private static boolean eq(String a, String b) {
+        return a == b || (a != null && a.equals(b));
+    }
+}
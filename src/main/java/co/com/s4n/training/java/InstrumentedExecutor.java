@@ -0,0 +1,167 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Pool de tamaño fijo con cola acotada que lleva metricas: tareas enviadas, completadas y
+// rechazadas, profundidad de la cola y tiempo de espera en cola y de ejecucion de cada tarea.
+// Como es un ExecutorService sirve tanto para CompletableFuture.supplyAsync como para los Future de vavr.
+public class InstrumentedExecutor extends ThreadPoolExecutor {
+
+    private final String name;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxRunNanos = new LongAccumulator(Math::max, 0);
+
+    public InstrumentedExecutor(String name, int threads, int queueCapacity, RejectionPolicy policy){
+        super(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(name), policy.handler());
+        this.name = name;
+        RejectedExecutionHandler handler = getRejectedExecutionHandler();
+        setRejectedExecutionHandler((Runnable r, ThreadPoolExecutor executor) -> {
+            rejected.increment();
+            handler.rejectedExecution(r, executor);
+        });
+    }
+
+    // Retorna las tareas que se enviaron, no las envolturas que miden el tiempo
+    @Override
+    public List<Runnable> shutdownNow(){
+        List<Runnable> pending = super.shutdownNow();
+        List<Runnable> tasks = new ArrayList<>(pending.size());
+        for (Runnable r : pending) {
+            tasks.add(r instanceof TimedTask ? ((TimedTask) r).task : r);
+        }
+        return tasks;
+    }
+
+    @Override
+    public void execute(Runnable command){
+        submitted.increment();
+        super.execute(new TimedTask(command, System.nanoTime()));
+        maxQueueDepth.accumulate(getQueue().size());
+    }
+
+    public String getName(){
+        return name;
+    }
+
+    public long getSubmitted(){
+        return submitted.sum();
+    }
+
+    public long getCompleted(){
+        return completed.sum();
+    }
+
+    // Tareas de execute() que lanzan una excepcion y tareas de submit() cuyo FutureTask termina con una.
+    // CompletableFuture.supplyAsync y Future.of de vavr atrapan la excepcion dentro de la tarea y la
+    // guardan en su propio futuro, asi que para el pool esas cuentan como completadas.
+    public long getFailed(){
+        return failed.sum();
+    }
+
+    public long getRejected(){
+        return rejected.sum();
+    }
+
+    public int getQueueDepth(){
+        return getQueue().size();
+    }
+
+    public long getMaxQueueDepth(){
+        return maxQueueDepth.get();
+    }
+
+    public double getAverageQueueMillis(){
+        long n = completed.sum() + failed.sum();
+        return n == 0 ? 0 : queueNanos.sum() / 1e6 / n;
+    }
+
+    public double getAverageRunMillis(){
+        long n = completed.sum() + failed.sum();
+        return n == 0 ? 0 : runNanos.sum() / 1e6 / n;
+    }
+
+    public double getMaxRunMillis(){
+        return maxRunNanos.get() / 1e6;
+    }
+
+    @Override
+    public String toString(){
+        return "InstrumentedExecutor(" + name + ", threads=" + getMaximumPoolSize() + ", queue=" + getQueueDepth()
+                + ", submitted=" + getSubmitted() + ", completed=" + getCompleted() + ", failed=" + getFailed()
+                + ", rejected=" + getRejected() + ", avgQueueMs=" + getAverageQueueMillis()
+                + ", avgRunMs=" + getAverageRunMillis() + ")";
+    }
+
+    private static ThreadFactory threadFactory(String name){
+        AtomicInteger count = new AtomicInteger();
+        return (Runnable r) -> {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    // submit() envuelve la tarea en un FutureTask que guarda la excepcion en vez de lanzarla
+    private static boolean failedFutureTask(Runnable task){
+        if (!(task instanceof FutureTask) || !((FutureTask<?>) task).isDone() || ((FutureTask<?>) task).isCancelled()) {
+            return false;
+        }
+        try {
+            ((FutureTask<?>) task).get();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long enqueued;
+
+        TimedTask(Runnable task, long enqueued){
+            this.task = task;
+            this.enqueued = enqueued;
+        }
+
+        @Override
+        public void run(){
+            long start = System.nanoTime();
+            queueNanos.add(start - enqueued);
+            boolean ok = false;
+            try {
+                task.run();
+                ok = !failedFutureTask(task);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                runNanos.add(elapsed);
+                maxRunNanos.accumulate(elapsed);
+                if (ok) {
+                    completed.increment();
+                } else {
+                    failed.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package co.com.s4n.training.java;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+// Grupos con llave int, sin boxing de las llaves. Si se da un rango [min, max] esas llaves van a un
+// arreglo directo; el resto (o todas, si no hay rango) van a una tabla hash de direccionamiento abierto.
+public class IntGroups<T> {
+
+    private final int min;
+    private final Bucket<T>[] dense;
+    private int[] keys;
+    private Bucket<T>[] buckets;
+    private int hashed = 0;
+    private int groups = 0;
+
+    public IntGroups(){
+        this.min = 0;
+        this.dense = null;
+        allocate(16);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public IntGroups(int min, int max){
+        checkRange(min, max);
+        this.min = min;
+        this.dense = new Bucket[max - min + 1];
+        allocate(8);
+    }
+
+    public void add(int key, T value){
+        bucket(key).add(value);
+    }
+
+    public List<T> get(int key){
+        Bucket<T> b = find(key);
+        return b == null ? Collections.emptyList() : b;
+    }
+
+    public int size(){
+        return groups;
+    }
+
+    // Llaves en orden ascendente
+    public int[] keys(){
+        int[] res = new int[groups];
+        int n = 0;
+        if (dense != null) {
+            for (int i = 0; i < dense.length; i++) {
+                if (dense[i] != null) {
+                    res[n++] = min + i;
+                }
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (buckets[i] != null) {
+                res[n++] = keys[i];
+            }
+        }
+        Arrays.sort(res);
+        return res;
+    }
+
+    // Agrega los grupos de `other` despues de los de este, como el combiner de Collectors.groupingBy
+    public IntGroups<T> merge(IntGroups<T> other){
+        if (other.dense != null) {
+            for (int i = 0; i < other.dense.length; i++) {
+                if (other.dense[i] != null) {
+                    bucket(other.min + i).addAll(other.dense[i]);
+                }
+            }
+        }
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.buckets[i] != null) {
+                bucket(other.keys[i]).addAll(other.buckets[i]);
+            }
+        }
+        return this;
+    }
+
+    public Map<Integer, List<T>> toMap(){
+        Map<Integer, List<T>> res = new TreeMap<>();
+        for (int k : keys()) {
+            res.put(k, get(k));
+        }
+        return res;
+    }
+
+    @Override
+    public String toString(){
+        return toMap().toString();
+    }
+
+    private Bucket<T> bucket(int key){
+        if (dense != null) {
+            long i = (long) key - min;
+            if (i >= 0 && i < dense.length) {
+                Bucket<T> b = dense[(int) i];
+                if (b == null) {
+                    b = new Bucket<>();
+                    dense[(int) i] = b;
+                    groups++;
+                }
+                return b;
+            }
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (buckets[i] != null) {
+            if (keys[i] == key) {
+                return buckets[i];
+            }
+            i = (i + 1) & mask;
+        }
+        Bucket<T> b = new Bucket<>();
+        keys[i] = key;
+        buckets[i] = b;
+        groups++;
+        if (++hashed * 2 > keys.length) {
+            resize();
+        }
+        return b;
+    }
+
+    private Bucket<T> find(int key){
+        if (dense != null) {
+            long i = (long) key - min;
+            if (i >= 0 && i < dense.length) {
+                return dense[(int) i];
+            }
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (buckets[i] != null) {
+            if (keys[i] == key) {
+                return buckets[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    private void resize(){
+        int[] oldKeys = keys;
+        Bucket<T>[] oldBuckets = buckets;
+        allocate(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for (int o = 0; o < oldKeys.length; o++) {
+            if (oldBuckets[o] != null) {
+                int i = hash(oldKeys[o]) & mask;
+                while (buckets[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[o];
+                buckets[i] = oldBuckets[o];
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void allocate(int n){
+        keys = new int[n];
+        buckets = new Bucket[n];
+    }
+
+    static void checkRange(int min, int max){
+        if (max < min || (long) max - min >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Rango invalido: [" + min + ", " + max + "]");
+        }
+    }
+
+    private static int hash(int key){
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Lista de solo agregar respaldada por un Object[]
+    static final class Bucket<T> extends AbstractList<T> implements RandomAccess {
+        private Object[] items = new Object[4];
+        private int size = 0;
+
+        @Override
+        public boolean add(T t){
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = t;
+            return true;
+        }
+
+        void addAll(Bucket<T> other){
+            if (size + other.size > items.length) {
+                items = Arrays.copyOf(items, Math.max(items.length * 2, size + other.size));
+            }
+            System.arraycopy(other.items, 0, items, size, other.size);
+            size += other.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index){
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return (T) items[index];
+        }
+
+        @Override
+        public int size(){
+            return size;
+        }
+    }
+}
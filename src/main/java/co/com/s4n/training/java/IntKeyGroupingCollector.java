@@ -0,0 +1,66 @@
+package co.com.s4n.training.java;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+// Como Collectors.groupingBy pero con la llave como int, asi que no se crea un Integer por elemento.
+// En paralelo cada split arma sus IntGroups y el combiner los mezcla en orden.
+public class IntKeyGroupingCollector<T> implements Collector<T, IntGroups<T>, IntGroups<T>> {
+
+    private final ToIntFunction<? super T> key;
+    private final Supplier<IntGroups<T>> supplier;
+
+    private IntKeyGroupingCollector(ToIntFunction<? super T> key, Supplier<IntGroups<T>> supplier){
+        this.key = key;
+        this.supplier = supplier;
+    }
+
+    public static <T> IntKeyGroupingCollector<T> groupingBy(ToIntFunction<? super T> key){
+        return new IntKeyGroupingCollector<>(key, IntGroups::new);
+    }
+
+    // Las llaves en [min, max] usan un arreglo directo en vez de la tabla hash
+    public static <T> IntKeyGroupingCollector<T> groupingBy(ToIntFunction<? super T> key, int min, int max){
+        IntGroups.checkRange(min, max);
+        return new IntKeyGroupingCollector<>(key, () -> new IntGroups<>(min, max));
+    }
+
+    public static IntKeyGroupingCollector<Person> byEdad(){
+        return groupingBy(Person::getEdad, 0, 127);
+    }
+
+    public static IntKeyGroupingCollector<CollectablePerson> byAge(){
+        return groupingBy((CollectablePerson p) -> p.age, 0, 127);
+    }
+
+    @Override
+    public Supplier<IntGroups<T>> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public BiConsumer<IntGroups<T>, T> accumulator() {
+        return (IntGroups<T> groups, T t) -> groups.add(key.applyAsInt(t), t);
+    }
+
+    @Override
+    public BinaryOperator<IntGroups<T>> combiner() {
+        return IntGroups::merge;
+    }
+
+    @Override
+    public Function<IntGroups<T>, IntGroups<T>> finisher() {
+        return Function.identity();
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.IDENTITY_FINISH);
+    }
+}
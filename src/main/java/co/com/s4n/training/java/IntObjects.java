@@ -0,0 +1,35 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+// Crea objetos desde int sin pasar por Integer: el constructor se recibe como IntFunction
+// (p.ej. MyClass::new), asi que nunca se resuelve la sobrecarga con boxing.
+public class IntObjects {
+
+    public static <T> T[] toArray(int[] values, IntFunction<T> factory, IntFunction<T[]> newArray){
+        T[] res = newArray.apply(values.length);
+        for (int i = 0; i < values.length; i++) {
+            res[i] = factory.apply(values[i]);
+        }
+        return res;
+    }
+
+    public static <T> T[] toArray(IntStream values, IntFunction<T> factory, IntFunction<T[]> newArray){
+        return values.mapToObj(factory).toArray(newArray);
+    }
+
+    public static <T> List<T> toList(int[] values, IntFunction<T> factory, IntFunction<T[]> newArray){
+        return Arrays.asList(toArray(values, factory, newArray));
+    }
+
+    public static MyClass[] myClasses(int... values){
+        return toArray(values, MyClass::new, MyClass[]::new);
+    }
+
+    public static MyClassWithInt[] myClassesWithInt(int... values){
+        return toArray(values, MyClassWithInt::new, MyClassWithInt[]::new);
+    }
+}
@@ -0,0 +1,182 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+
+// Sketch de cuantiles aproximados para enteros al estilo KLL. Los valores entran al nivel 0; cuando
+// un nivel se llena se ordena, se queda con uno de cada dos (empezando al azar en el primero o el
+// segundo) y los sube al siguiente nivel, donde cada valor pesa el doble. La capacidad de los niveles
+// decrece geometricamente hacia abajo, asi que la memoria es O(k log(n/k)) y el error en el rango es
+// del orden de 1/k. Dos sketches se mezclan juntando sus niveles y compactando.
+public class IntQuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_WIDTH = 8;
+    private static final double DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private int[][] levels = new int[1][];
+    private int[] sizes = new int[1];
+    private int numLevels = 1;
+    // accept() compara estos dos en cada valor, asi que se llevan al dia en vez de recorrer los niveles:
+    // retained cambia en append() y compress(), las capacidades solo cuando addLevel() agrega un nivel
+    private int retained = 0;
+    private int[] capacities;
+    private int capacity;
+    private long n = 0;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private long random;
+
+    public IntQuantileSketch(){
+        this(DEFAULT_K);
+    }
+
+    public IntQuantileSketch(int k){
+        if (k < MIN_WIDTH) {
+            throw new IllegalArgumentException("k debe ser al menos " + MIN_WIDTH + ": " + k);
+        }
+        this.k = k;
+        this.levels[0] = new int[k];
+        this.random = System.nanoTime() | 1;
+        updateCapacities();
+    }
+
+    public void accept(int value){
+        n++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        append(0, value);
+        if (retained >= capacity) {
+            compress();
+        }
+    }
+
+    public IntQuantileSketch merge(IntQuantileSketch other){
+        if (other.n == 0) {
+            return this;
+        }
+        for (int h = 0; h < other.numLevels; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        while (retained > capacity) {
+            compress();
+        }
+        return this;
+    }
+
+    public long getCount(){
+        return n;
+    }
+
+    public int getMin(){
+        return min;
+    }
+
+    public int getMax(){
+        return max;
+    }
+
+    // Valor aproximado cuyo rango es q * n, con q en [0, 1]
+    public int quantile(double q){
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q debe estar en [0, 1]: " + q);
+        }
+        if (n == 0) {
+            throw new IllegalStateException("El sketch esta vacio");
+        }
+        if (q == 0) return min;
+        if (q == 1) return max;
+
+        int total = retained;
+        long[] items = new long[total];
+        int m = 0;
+        for (int h = 0; h < numLevels; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                // valor en los 32 bits altos y nivel en los bajos, para ordenar por valor
+                items[m++] = ((long) levels[h][i] << 32) | h;
+            }
+        }
+        Arrays.sort(items);
+        double target = q * n;
+        long weight = 0;
+        for (long item : items) {
+            weight += 1L << (int) item;
+            if (weight >= target) {
+                return (int) (item >> 32);
+            }
+        }
+        return max;
+    }
+
+    // Numero de valores guardados, no los que se han visto
+    public int retained(){
+        return retained;
+    }
+
+    // La capacidad de cada nivel depende de su distancia al nivel mas alto
+    private void updateCapacities(){
+        capacities = new int[numLevels];
+        capacity = 0;
+        for (int h = 0; h < numLevels; h++) {
+            int depth = numLevels - h - 1;
+            capacities[h] = Math.max(MIN_WIDTH, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+            capacity += capacities[h];
+        }
+    }
+
+    private void compress(){
+        for (int h = 0; h < numLevels; h++) {
+            if (sizes[h] >= capacities[h]) {
+                if (h + 1 == numLevels) {
+                    addLevel();
+                }
+                int[] level = levels[h];
+                int size = sizes[h];
+                Arrays.sort(level, 0, size);
+                // Con un numero impar de valores el ultimo se queda en este nivel
+                int keep = size % 2;
+                int offset = nextBit();
+                for (int i = offset; i < size - keep; i += 2) {
+                    append(h + 1, level[i]);
+                }
+                if (keep == 1) {
+                    level[0] = level[size - 1];
+                }
+                retained -= size - keep;
+                sizes[h] = keep;
+                return;
+            }
+        }
+    }
+
+    private void addLevel(){
+        levels = Arrays.copyOf(levels, numLevels + 1);
+        sizes = Arrays.copyOf(sizes, numLevels + 1);
+        levels[numLevels] = new int[MIN_WIDTH];
+        numLevels++;
+        updateCapacities();
+    }
+
+    private void append(int h, int value){
+        while (h >= numLevels) {
+            addLevel();
+        }
+        if (sizes[h] == levels[h].length) {
+            levels[h] = Arrays.copyOf(levels[h], Math.max(MIN_WIDTH, sizes[h] * 2));
+        }
+        levels[h][sizes[h]++] = value;
+        retained++;
+    }
+
+    private int nextBit(){
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return (int) (random & 1);
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.s4n.training.java;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Lista de MyClassWithInt respaldada por un int[]: un millon de elementos son un solo arreglo.
+// get crea el objeto al momento; forEachFlyweight reutiliza una sola instancia para recorrerla.
+public class MyClassWithIntArray extends AbstractList<MyClassWithInt> implements RandomAccess {
+
+    private final int[] values;
+
+    public MyClassWithIntArray(int[] values){
+        this.values = values;
+    }
+
+    public static MyClassWithIntArray of(IntStream values){
+        return new MyClassWithIntArray(values.toArray());
+    }
+
+    @Override
+    public MyClassWithInt get(int index){
+        return new MyClassWithInt(values[index]);
+    }
+
+    public int getInt(int index){
+        return values[index];
+    }
+
+    @Override
+    public int size(){
+        return values.length;
+    }
+
+    public IntStream ints(){
+        return IntStream.of(values);
+    }
+
+    // La instancia que recibe `action` cambia en cada llamada; no se debe guardar
+    public void forEachFlyweight(Consumer<? super MyClassWithInt> action){
+        MyClassWithInt flyweight = new MyClassWithInt(0);
+        for (int v : values) {
+            flyweight.i = v;
+            action.accept(flyweight);
+        }
+    }
+}
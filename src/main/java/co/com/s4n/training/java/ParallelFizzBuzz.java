@@ -0,0 +1,113 @@
+package co.com.s4n.training.java;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+// Parte el rango en bloques de `chunkSize` numeros y los evalua en un ForkJoinPool, cada bloque en
+// su propio buffer. Los bloques se procesan por tandas de `chunksPerWave` y se entregan al sink en
+// orden, asi que la salida es identica a la de FizzBuzzRules.write y la memoria no crece con el rango.
+public class ParallelFizzBuzz {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+    private final ForkJoinPool pool;
+    private final FizzBuzzRules rules;
+    private final int chunkSize;
+    private final int chunksPerWave;
+
+    public ParallelFizzBuzz(){
+        this(ForkJoinPool.commonPool(), FizzBuzzRules.CLASSIC, DEFAULT_CHUNK_SIZE,
+                4 * ForkJoinPool.commonPool().getParallelism());
+    }
+
+    public ParallelFizzBuzz(ForkJoinPool pool, FizzBuzzRules rules, int chunkSize, int chunksPerWave){
+        if (chunkSize <= 0 || chunksPerWave <= 0) {
+            throw new IllegalArgumentException("chunkSize y chunksPerWave deben ser positivos");
+        }
+        this.pool = pool;
+        this.rules = rules;
+        this.chunkSize = chunkSize;
+        this.chunksPerWave = chunksPerWave;
+    }
+
+    public void write(long from, long to, Consumer<? super CharSequence> sink){
+        if (from > to) {
+            return;
+        }
+        long[] starts = new long[chunksPerWave];
+        long[] ends = new long[chunksPerWave];
+        StringBuilder[] buffers = new StringBuilder[chunksPerWave];
+        for (int i = 0; i < chunksPerWave; i++) {
+            buffers[i] = new StringBuilder();
+        }
+
+        long start = from;
+        boolean done = false;
+        while (!done) {
+            int count = 0;
+            while (count < chunksPerWave && !done) {
+                // to - start puede desbordarse si el rango es mayor que Long.MAX_VALUE; en ese caso es negativo
+                long span = to - start;
+                long end = span >= 0 && span < chunkSize ? to : start + chunkSize - 1;
+                starts[count] = start;
+                ends[count] = end;
+                count++;
+                if (end == to) {
+                    done = true;
+                } else {
+                    start = end + 1;
+                }
+            }
+
+            pool.invoke(new ChunkTask(starts, ends, buffers, 0, count));
+
+            for (int i = 0; i < count; i++) {
+                sink.accept(buffers[i]);
+                buffers[i].setLength(0);
+            }
+        }
+    }
+
+    public String render(long from, long to){
+        StringBuilder sb = new StringBuilder();
+        write(from, to, sb::append);
+        return sb.toString();
+    }
+
+    private class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] starts;
+        private final long[] ends;
+        private final StringBuilder[] buffers;
+        private final int lo;
+        private final int hi;
+
+        ChunkTask(long[] starts, long[] ends, StringBuilder[] buffers, int lo, int hi){
+            this.starts = starts;
+            this.ends = ends;
+            this.buffers = buffers;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                StringBuilder buffer = buffers[lo];
+                long end = ends[lo];
+                for (long i = starts[lo]; ; i++) {
+                    rules.append(buffer, i).append('\n');
+                    if (i == end) {
+                        break;
+                    }
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(starts, ends, buffers, lo, mid),
+                      new ChunkTask(starts, ends, buffers, mid, hi));
+        }
+    }
+}
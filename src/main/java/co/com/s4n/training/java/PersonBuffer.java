@@ -0,0 +1,30 @@
+package co.com.s4n.training.java;
+
+public class PersonBuffer {
+    public final StringBuilder names;
+    public int age;
+
+    public PersonBuffer(){
+        this(16);
+    }
+
+    public PersonBuffer(int capacity){
+        this.names = new StringBuilder(capacity);
+        this.age = 0;
+    }
+
+    public void add(CollectablePerson p){
+        names.append(' ').append(p.name);
+        age = age + p.age;
+    }
+
+    public PersonBuffer merge(PersonBuffer other){
+        names.append(other.names);
+        age = age + other.age;
+        return this;
+    }
+
+    public CollectablePerson toCollectablePerson(){
+        return new CollectablePerson(names.toString(), age);
+    }
+}
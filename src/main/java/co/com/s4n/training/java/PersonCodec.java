@@ -0,0 +1,144 @@
+package co.com.s4n.training.java;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// Formato binario de un Person:
+//
+//   int    largo total del registro (incluye este encabezado)
+//   int    edad
+//   u16    largo en bytes de nombre, apellido y correo (0xFFFF = null)
+//   bytes  nombre, apellido y correo en UTF-8
+//
+// Los registros van uno tras otro, asi que un archivo se recorre saltando `largo` bytes.
+public class PersonCodec {
+
+    public static final int HEADER_SIZE = 4 + 4 + 3 * 2;
+    public static final int MAX_FIELD_LENGTH = 0xFFFE;
+    static final int NULL_LENGTH = 0xFFFF;
+
+    public static int encodedSize(Person p){
+        return HEADER_SIZE + utf8Length(p.getNombre()) + utf8Length(p.getApellido()) + utf8Length(p.getCorreo());
+    }
+
+    // Escribe el registro en la posicion actual del buffer y la avanza
+    public static void write(ByteBuffer buffer, Person p){
+        byte[] nombre = bytes(p.getNombre());
+        byte[] apellido = bytes(p.getApellido());
+        byte[] correo = bytes(p.getCorreo());
+        int size = HEADER_SIZE + length(nombre) + length(apellido) + length(correo);
+        buffer.putInt(size);
+        buffer.putInt(p.getEdad());
+        buffer.putShort((short) (nombre == null ? NULL_LENGTH : nombre.length));
+        buffer.putShort((short) (apellido == null ? NULL_LENGTH : apellido.length));
+        buffer.putShort((short) (correo == null ? NULL_LENGTH : correo.length));
+        if (nombre != null) buffer.put(nombre);
+        if (apellido != null) buffer.put(apellido);
+        if (correo != null) buffer.put(correo);
+    }
+
+    public static Person read(ByteBuffer buffer, int offset){
+        return new PersonFlyweight().wrap(buffer, offset).toPerson();
+    }
+
+    public static long writeAll(Iterable<Person> persons, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        long written = 0;
+        for (Person p : persons) {
+            int size = encodedSize(p);
+            if (size > buffer.remaining()) {
+                written += drain(buffer, channel);
+                if (size > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect(size);
+                }
+            }
+            write(buffer, p);
+        }
+        return written + drain(buffer, channel);
+    }
+
+    public static long writeAll(Iterable<Person> persons, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return writeAll(persons, channel);
+        }
+    }
+
+    public static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    // Recorre los registros desde la posicion hasta el limite del buffer con un solo flyweight reutilizado.
+    // Un tamaño menor al encabezado (por ejemplo una cola de ceros en un archivo mapeado) o que se sale
+    // del buffer es un registro corrupto: se lanza IllegalArgumentException en vez de ciclar o leer afuera.
+    public static void forEach(ByteBuffer buffer, Consumer<PersonFlyweight> action){
+        PersonFlyweight p = new PersonFlyweight();
+        int offset = buffer.position();
+        int limit = buffer.limit();
+        while (offset < limit) {
+            int remaining = limit - offset;
+            int size = remaining < HEADER_SIZE ? remaining : buffer.getInt(offset);
+            if (size < HEADER_SIZE || size > remaining) {
+                throw new IllegalArgumentException("Registro invalido en la posicion " + offset + ": tamaño " + size
+                        + ", quedan " + remaining + " bytes");
+            }
+            action.accept(p.wrap(buffer, offset));
+            offset += size;
+        }
+    }
+
+    private static long drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+        return written;
+    }
+
+    private static byte[] bytes(String s){
+        if (s == null) {
+            return null;
+        }
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        if (b.length > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("Campo de " + b.length + " bytes, el maximo es " + MAX_FIELD_LENGTH);
+        }
+        return b;
+    }
+
+    private static int length(byte[] b){
+        return b == null ? 0 : b.length;
+    }
+
+    private static int utf8Length(String s){
+        if (s == null) {
+            return 0;
+        }
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                n += 1;
+            } else if (c < 0x800) {
+                n += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                n += 4;
+                i++;
+            } else {
+                n += 3;
+            }
+        }
+        return n;
+    }
+}
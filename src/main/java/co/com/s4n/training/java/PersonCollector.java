@@ -9,6 +9,17 @@ import java.util.function.Supplier;
 import java.util.stream.Collector;
 
 public class PersonCollector implements Collector<CollectablePerson, CollectablePerson, CollectablePerson> {
+
+    private final PersonTrace trace;
+
+    public PersonCollector(){
+        this(PersonTrace.NONE);
+    }
+
+    public PersonCollector(PersonTrace trace){
+        this.trace = trace;
+    }
+
     @Override
     public Supplier<CollectablePerson> supplier() {
         return CollectablePerson::new;
@@ -17,7 +28,9 @@ public class PersonCollector implements Collector<CollectablePerson, Collectable
     @Override
     public BiConsumer<CollectablePerson, CollectablePerson> accumulator() {
         return (CollectablePerson p1, CollectablePerson p2) -> {
-            System.out.println("accumulator: "+ p1.name+ " "+p2.name);
+            if (trace.isEnabled()) {
+                trace.trace("accumulator", p1.name, p2.name);
+            }
             p1.addName(p2.name);
             p1.addAge(p2.age);
         };
@@ -26,7 +39,9 @@ public class PersonCollector implements Collector<CollectablePerson, Collectable
     @Override
     public BinaryOperator<CollectablePerson> combiner() {
         return (CollectablePerson p1, CollectablePerson p2) -> {
-            System.out.println("combiner: "+ p1.name+ " "+p2.name);
+            if (trace.isEnabled()) {
+                trace.trace("combiner", p1.name, p2.name);
+            }
             return new CollectablePerson(p1.name+" "+p2.name, p1.age+p2.age);
         };
 
@@ -35,7 +50,9 @@ public class PersonCollector implements Collector<CollectablePerson, Collectable
     @Override
     public Function<CollectablePerson, CollectablePerson> finisher() {
         return (CollectablePerson p1) -> {
-            System.out.println("finisher: "+ p1.name+ " "+p1.age);
+            if (trace.isEnabled()) {
+                trace.trace("finisher", p1.name, p1.age);
+            }
 
             return p1;
         };
@@ -0,0 +1,30 @@
+package co.com.s4n.training.java;
+
+// Crea Person y CollectablePerson pasando los nombres por un StringPool, asi las filas con el mismo
+// nombre o apellido comparten el String. El correo casi nunca se repite y no se internaliza.
+public class PersonFactory {
+
+    public static final int DEFAULT_CAPACITY = 16 * 1024;
+
+    private final StringPool pool;
+
+    public PersonFactory(){
+        this(new StringPool(DEFAULT_CAPACITY));
+    }
+
+    public PersonFactory(StringPool pool){
+        this.pool = pool;
+    }
+
+    public Person person(int edad, String nombre, String apellido, String correo){
+        return new Person(edad, pool.intern(nombre), pool.intern(apellido), correo);
+    }
+
+    public CollectablePerson collectable(String name, int age){
+        return new CollectablePerson(pool.intern(name), age);
+    }
+
+    public StringPool pool(){
+        return pool;
+    }
+}
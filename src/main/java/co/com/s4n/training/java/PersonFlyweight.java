@@ -0,0 +1,99 @@
+package co.com.s4n.training.java;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Vista de un registro de PersonCodec dentro de un ByteBuffer (p.ej. un archivo mapeado en memoria).
+// No copia nada al hacer wrap: cada getter lee solo el campo que necesita, y se puede reutilizar
+// para recorrer muchos registros sin crear un Person por cada uno.
+public class PersonFlyweight {
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    public PersonFlyweight wrap(ByteBuffer buffer, int offset){
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    public int size(){
+        return buffer.getInt(offset);
+    }
+
+    // Offset del siguiente registro
+    public int next(){
+        return offset + size();
+    }
+
+    public int getEdad(){
+        return buffer.getInt(offset + 4);
+    }
+
+    public String getNombre(){
+        return string(0);
+    }
+
+    public String getApellido(){
+        return string(1);
+    }
+
+    public String getCorreo(){
+        return string(2);
+    }
+
+    // Compara el correo contra los bytes UTF-8 dados sin decodificarlo
+    public boolean correoEquals(byte[] utf8){
+        int length = fieldLength(2);
+        if (length == PersonCodec.NULL_LENGTH || length != utf8.length) {
+            return false;
+        }
+        int start = fieldStart(2);
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Person toPerson(){
+        return new Person(getEdad(), getNombre(), getApellido(), getCorreo());
+    }
+
+    @Override
+    public String toString(){
+        return "PersonFlyweight(" + offset + ", " + toPerson() + ")";
+    }
+
+    private int fieldLength(int field){
+        return buffer.getShort(offset + 8 + 2 * field) & 0xFFFF;
+    }
+
+    private int fieldStart(int field){
+        int start = offset + PersonCodec.HEADER_SIZE;
+        for (int f = 0; f < field; f++) {
+            int length = fieldLength(f);
+            if (length != PersonCodec.NULL_LENGTH) {
+                start += length;
+            }
+        }
+        return start;
+    }
+
+    private String string(int field){
+        int length = fieldLength(field);
+        if (length == PersonCodec.NULL_LENGTH) {
+            return null;
+        }
+        int start = fieldStart(field);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.s4n.training.java;
+
+// Indice sobre las filas de un PersonTable. La tabla avisa cada fila agregada o borrada
+// (ver PersonTable.addIndex), asi el indice se mantiene al dia sin reconstruirlo.
+public interface PersonIndex {
+
+    void added(PersonTable table, int row);
+
+    void removed(PersonTable table, int row);
+
+    // Llave del indice a partir de una fila, p.ej. PersonTable::getCorreo
+    interface Key<K> {
+        K of(PersonTable table, int row);
+    }
+
+    interface IntKey {
+        int of(PersonTable table, int row);
+    }
+}
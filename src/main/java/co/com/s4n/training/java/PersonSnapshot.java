@@ -0,0 +1,178 @@
+package co.com.s4n.training.java;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Snapshot de un conjunto de Person en un archivo:
+//
+//   int    MAGIC
+//   int    VERSION
+//   int    numero de registros
+//   int    offset de la tabla de offsets
+//   ...    registros en formato PersonCodec
+//   int[]  offset de cada registro
+//
+// open() solo mapea el archivo y valida el encabezado; no lee los registros. Las paginas se cargan
+// cuando se accede a ellas, asi el arranque no depende del numero de personas. Como se usa un solo
+// MappedByteBuffer el archivo no puede pasar de 2GB.
+public class PersonSnapshot {
+
+    public static final int MAGIC = 0x50534E50;
+    public static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int tableOffset;
+
+    private PersonSnapshot(MappedByteBuffer buffer, int count, int tableOffset){
+        this.buffer = buffer;
+        this.count = count;
+        this.tableOffset = tableOffset;
+    }
+
+    // Escribe en un archivo temporal al lado de `path`, lo baja a disco y lo mueve encima de `path`.
+    // Asi nunca se trunca un snapshot que otro proceso tenga mapeado con open(), y si el proceso se
+    // cae a mitad de camino el snapshot anterior sigue intacto.
+    public static int write(Iterable<Person> persons, Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            int count;
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                count = write(persons, channel);
+                channel.force(true);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return count;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static int write(Iterable<Person> persons, FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        int[] offsets = new int[1024];
+        int count = 0;
+        long position = HEADER_SIZE;
+        channel.position(HEADER_SIZE);
+        for (Person p : persons) {
+            int size = PersonCodec.encodedSize(p);
+            if (size > buffer.remaining()) {
+                drain(buffer, channel);
+                if (size > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect(size);
+                }
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            int start = buffer.position();
+            PersonCodec.write(buffer, p);
+            offsets[count++] = checkedOffset(position);
+            position += buffer.position() - start;
+        }
+        int tableOffset = checkedOffset(position);
+        for (int i = 0; i < count; i++) {
+            if (buffer.remaining() < 4) {
+                drain(buffer, channel);
+            }
+            buffer.putInt(offsets[i]);
+        }
+        checkedOffset(position + 4L * count);
+        drain(buffer, channel);
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(tableOffset);
+        buffer.flip();
+        long at = 0;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+        return count;
+    }
+
+    public static PersonSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Tamaño de snapshot invalido: " + size + " bytes en " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException(path + " no es un snapshot de Person");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Version de snapshot no soportada: " + buffer.getInt(4));
+            }
+            int count = buffer.getInt(8);
+            int tableOffset = buffer.getInt(12);
+            if (count < 0 || tableOffset < HEADER_SIZE || (long) tableOffset + 4L * count > size) {
+                throw new IOException("Snapshot corrupto: " + path);
+            }
+            return new PersonSnapshot(buffer, count, tableOffset);
+        }
+    }
+
+    public int size(){
+        return count;
+    }
+
+    public int offset(int i){
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Registro " + i + " fuera de rango, size: " + count);
+        }
+        return buffer.getInt(tableOffset + 4 * i);
+    }
+
+    // Vista del registro i; reusa `view` para no crear un objeto por acceso
+    public PersonFlyweight get(int i, PersonFlyweight view){
+        return view.wrap(buffer, offset(i));
+    }
+
+    public PersonFlyweight get(int i){
+        return get(i, new PersonFlyweight());
+    }
+
+    public int getEdad(int i){
+        return get(i).getEdad();
+    }
+
+    public Person toPerson(int i){
+        return get(i).toPerson();
+    }
+
+    public void forEach(Consumer<PersonFlyweight> action){
+        PersonFlyweight view = new PersonFlyweight();
+        for (int i = 0; i < count; i++) {
+            action.accept(get(i, view));
+        }
+    }
+
+    // Pide al sistema operativo cargar todas las paginas, p.ej. para calentar el cache despues de arrancar
+    public void load(){
+        buffer.load();
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int checkedOffset(long position) throws IOException {
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("El snapshot no puede pasar de 2GB");
+        }
+        return (int) position;
+    }
+}
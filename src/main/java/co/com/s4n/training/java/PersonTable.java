@@ -0,0 +1,253 @@
+package co.com.s4n.training.java;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+// Guarda las personas por columnas: la edad en un int[], nombre y apellido codificados con un
+// StringDictionary y los correos como bytes UTF-8 contiguos con arreglos de offset y largo. Las filas
+// borradas solo se marcan, asi los numeros de fila no cambian.
+public class PersonTable {
+
+    private int size = 0;
+    private int[] edad;
+    private int[] nombre;
+    private int[] apellido;
+    private int[] correoOffset;
+    private int[] correoLength;
+    private byte[] correoBytes;
+    private int correoEnd = 0;
+    private final BitSet removed = new BitSet();
+    private final StringDictionary nombres = new StringDictionary();
+    private final StringDictionary apellidos = new StringDictionary();
+    private final List<PersonIndex> indexes = new ArrayList<>();
+
+    // Largo maximo de un arreglo; algunas JVM reservan unas palabras de encabezado
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    public PersonTable(){
+        this(16);
+    }
+
+    public PersonTable(int capacity){
+        capacity = Math.max(capacity, 1);
+        this.edad = new int[capacity];
+        this.nombre = new int[capacity];
+        this.apellido = new int[capacity];
+        this.correoOffset = new int[capacity];
+        this.correoLength = new int[capacity];
+        this.correoBytes = new byte[(int) Math.min(MAX_ARRAY_LENGTH, capacity * 16L)];
+    }
+
+    public static PersonTable of(Iterable<Person> persons){
+        PersonTable table = new PersonTable();
+        for (Person p : persons) {
+            table.add(p);
+        }
+        return table;
+    }
+
+    public int add(Person p){
+        return add(p.getEdad(), p.getNombre(), p.getApellido(), p.getCorreo());
+    }
+
+    public int add(int edad, String nombre, String apellido, String correo){
+        if (size == this.edad.length) {
+            int capacity = grow(size, size + 1L, "filas");
+            this.edad = Arrays.copyOf(this.edad, capacity);
+            this.nombre = Arrays.copyOf(this.nombre, capacity);
+            this.apellido = Arrays.copyOf(this.apellido, capacity);
+            this.correoOffset = Arrays.copyOf(this.correoOffset, capacity);
+            this.correoLength = Arrays.copyOf(this.correoLength, capacity);
+        }
+        int row = size;
+        this.edad[row] = edad;
+        this.nombre[row] = nombres.encode(nombre);
+        this.apellido[row] = apellidos.encode(apellido);
+        correoOffset[row] = correoEnd;
+        // Un correo null se marca con largo -1 para distinguirlo del correo vacio
+        if (correo == null) {
+            correoLength[row] = -1;
+        } else {
+            byte[] bytes = correo.getBytes(StandardCharsets.UTF_8);
+            if ((long) correoEnd + bytes.length > correoBytes.length) {
+                correoBytes = Arrays.copyOf(correoBytes, grow(correoBytes.length, (long) correoEnd + bytes.length, "bytes de correo"));
+            }
+            System.arraycopy(bytes, 0, correoBytes, correoEnd, bytes.length);
+            correoLength[row] = bytes.length;
+            correoEnd += bytes.length;
+        }
+        size++;
+        for (PersonIndex index : indexes) {
+            index.added(this, row);
+        }
+        return row;
+    }
+
+    // Duplica el largo sin pasar del maximo de un arreglo; la cuenta va en long para que no se desborde
+    private static int grow(int length, long needed, String what){
+        if (needed > MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("PersonTable no puede guardar mas de " + MAX_ARRAY_LENGTH + " " + what);
+        }
+        return (int) Math.min(MAX_ARRAY_LENGTH, Math.max(needed, 2L * length));
+    }
+
+    // Registra el indice y le pasa las filas que ya existen; desde ahi recibe cada alta y baja
+    public <I extends PersonIndex> I addIndex(I index){
+        for (int r = 0; r < size; r++) {
+            if (!removed.get(r)) {
+                index.added(this, r);
+            }
+        }
+        indexes.add(index);
+        return index;
+    }
+
+    public boolean remove(int row){
+        checkRow(row);
+        if (removed.get(row)) {
+            return false;
+        }
+        removed.set(row);
+        for (PersonIndex index : indexes) {
+            index.removed(this, row);
+        }
+        return true;
+    }
+
+    public boolean isRemoved(int row){
+        checkRow(row);
+        return removed.get(row);
+    }
+
+    // Numero de filas, incluyendo las borradas
+    public int size(){
+        return size;
+    }
+
+    public int count(){
+        return size - removed.cardinality();
+    }
+
+    public int getEdad(int row){
+        checkRow(row);
+        return edad[row];
+    }
+
+    public String getNombre(int row){
+        checkRow(row);
+        return nombres.decode(nombre[row]);
+    }
+
+    public String getApellido(int row){
+        checkRow(row);
+        return apellidos.decode(apellido[row]);
+    }
+
+    public String getCorreo(int row){
+        checkRow(row);
+        int length = correoLength[row];
+        if (length < 0) {
+            return null;
+        }
+        return new String(correoBytes, correoOffset[row], length, StandardCharsets.UTF_8);
+    }
+
+    public Person toPerson(int row){
+        return new Person(getEdad(row), getNombre(row), getApellido(row), getCorreo(row));
+    }
+
+    public Row row(int row){
+        checkRow(row);
+        return new Row(row);
+    }
+
+    public IntStream rows(){
+        return IntStream.range(0, size).filter(r -> !removed.get(r));
+    }
+
+    public IntStream rowsWhereEdad(IntPredicate p){
+        return rows().filter(r -> p.test(edad[r]));
+    }
+
+    public int countEdadGreaterThan(int x){
+        int count = 0;
+        int[] edad = this.edad;
+        for (int r = 0; r < size; r++) {
+            if (edad[r] > x) {
+                count++;
+            }
+        }
+        if (!removed.isEmpty()) {
+            for (int r = removed.nextSetBit(0); r >= 0; r = removed.nextSetBit(r + 1)) {
+                if (edad[r] > x) {
+                    count--;
+                }
+            }
+        }
+        return count;
+    }
+
+    public int[] rowsEdadGreaterThan(int x){
+        int[] res = new int[Math.min(size, 16)];
+        int n = 0;
+        int[] edad = this.edad;
+        for (int r = 0; r < size; r++) {
+            if (edad[r] > x && !removed.get(r)) {
+                if (n == res.length) {
+                    res = Arrays.copyOf(res, Math.min(size, n * 2));
+                }
+                res[n++] = r;
+            }
+        }
+        return Arrays.copyOf(res, n);
+    }
+
+    private void checkRow(int row){
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Fila " + row + " fuera de rango, size: " + size);
+        }
+    }
+
+    // Vista de una fila; lee las columnas cada vez, no copia los datos
+    public class Row {
+        private final int row;
+
+        private Row(int row){
+            this.row = row;
+        }
+
+        public int getRow(){
+            return row;
+        }
+
+        public int getEdad(){
+            return PersonTable.this.getEdad(row);
+        }
+
+        public String getNombre(){
+            return PersonTable.this.getNombre(row);
+        }
+
+        public String getApellido(){
+            return PersonTable.this.getApellido(row);
+        }
+
+        public String getCorreo(){
+            return PersonTable.this.getCorreo(row);
+        }
+
+        public Person toPerson(){
+            return PersonTable.this.toPerson(row);
+        }
+
+        @Override
+        public String toString(){
+            return "PersonTable.Row(" + row + ", " + toPerson() + ")";
+        }
+    }
+}
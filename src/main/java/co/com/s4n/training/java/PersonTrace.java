@@ -0,0 +1,27 @@
+package co.com.s4n.training.java;
+
+public interface PersonTrace {
+
+    PersonTrace NONE = new PersonTrace() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void trace(String stage, Object a, Object b) {
+        }
+    };
+
+    PersonTrace CONSOLE = (String stage, Object a, Object b) -> System.out.println(format(stage, a, b));
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    void trace(String stage, Object a, Object b);
+
+    static String format(String stage, Object a, Object b) {
+        return stage + ": " + a + " " + b;
+    }
+}
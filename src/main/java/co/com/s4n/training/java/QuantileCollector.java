@@ -0,0 +1,60 @@
+package co.com.s4n.training.java;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+// Llena un IntQuantileSketch con un valor int de cada elemento, p.ej. para sacar p50/p95/p99 de
+// edades sin guardar ni ordenar toda la entrada.
+public class QuantileCollector<T> implements Collector<T, IntQuantileSketch, IntQuantileSketch> {
+
+    private final ToIntFunction<? super T> value;
+    private final int k;
+
+    public QuantileCollector(ToIntFunction<? super T> value){
+        this(value, IntQuantileSketch.DEFAULT_K);
+    }
+
+    public QuantileCollector(ToIntFunction<? super T> value, int k){
+        this.value = value;
+        this.k = k;
+    }
+
+    public static QuantileCollector<Person> edades(){
+        return new QuantileCollector<>(Person::getEdad);
+    }
+
+    public static QuantileCollector<CollectablePerson> ages(){
+        return new QuantileCollector<>((CollectablePerson p) -> p.age);
+    }
+
+    @Override
+    public Supplier<IntQuantileSketch> supplier() {
+        return () -> new IntQuantileSketch(k);
+    }
+
+    @Override
+    public BiConsumer<IntQuantileSketch, T> accumulator() {
+        return (IntQuantileSketch sketch, T t) -> sketch.accept(value.applyAsInt(t));
+    }
+
+    @Override
+    public BinaryOperator<IntQuantileSketch> combiner() {
+        return IntQuantileSketch::merge;
+    }
+
+    @Override
+    public Function<IntQuantileSketch, IntQuantileSketch> finisher() {
+        return Function.identity();
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.IDENTITY_FINISH, Characteristics.UNORDERED);
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.s4n.training.java;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// Que hacer con una tarea cuando la cola de un InstrumentedExecutor esta llena
+public enum RejectionPolicy {
+    ABORT,
+    CALLER_RUNS,
+    DISCARD,
+    DISCARD_OLDEST;
+
+    RejectedExecutionHandler handler(){
+        switch (this) {
+            case CALLER_RUNS: return new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD: return new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST: return new ThreadPoolExecutor.DiscardOldestPolicy();
+            default: return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Guarda en memoria solo las ultimas `capacity` trazas, sin bloquear a los hilos que escriben.
+public class RingBufferPersonTrace implements PersonTrace {
+    private final AtomicReferenceArray<String> entries;
+    private final AtomicLong next = new AtomicLong();
+
+    public RingBufferPersonTrace(int capacity){
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity debe ser positiva: " + capacity);
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void trace(String stage, Object a, Object b) {
+        long i = next.getAndIncrement();
+        entries.set((int) (i % entries.length()), PersonTrace.format(stage, a, b));
+    }
+
+    public long count(){
+        return next.get();
+    }
+
+    public List<String> snapshot(){
+        long end = next.get();
+        long start = Math.max(0, end - entries.length());
+        List<String> res = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            String s = entries.get((int) (i % entries.length()));
+            if (s != null) {
+                res.add(s);
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,114 @@
+package co.com.s4n.training.java;
+
+import java.util.Arrays;
+
+// Indice ordenado por una llave int (p.ej. la edad) para consultas por rango. Cada entrada es un
+// long con la llave en los 32 bits altos y la fila en los bajos, asi ordenar los long ordena por
+// (llave, fila). Las altas y bajas se acumulan y se mezclan con el arreglo ordenado en la
+// siguiente consulta, en vez de correr el arreglo en cada cambio.
+public class SortedIntIndex implements PersonIndex {
+
+    private final IntKey key;
+    private long[] sorted = new long[0];
+    private long[] pendingAdds = new long[16];
+    private int pendingAddCount = 0;
+    private long[] pendingRemoves = new long[16];
+    private int pendingRemoveCount = 0;
+
+    public SortedIntIndex(IntKey key){
+        this.key = key;
+    }
+
+    public static SortedIntIndex byEdad(){
+        return new SortedIntIndex(PersonTable::getEdad);
+    }
+
+    @Override
+    public void added(PersonTable table, int row) {
+        if (pendingAddCount == pendingAdds.length) {
+            pendingAdds = Arrays.copyOf(pendingAdds, pendingAddCount * 2);
+        }
+        pendingAdds[pendingAddCount++] = entry(key.of(table, row), row);
+    }
+
+    @Override
+    public void removed(PersonTable table, int row) {
+        if (pendingRemoveCount == pendingRemoves.length) {
+            pendingRemoves = Arrays.copyOf(pendingRemoves, pendingRemoveCount * 2);
+        }
+        pendingRemoves[pendingRemoveCount++] = entry(key.of(table, row), row);
+    }
+
+    // Filas con llave en [min, max], ordenadas por llave y luego por fila
+    public int[] range(int min, int max){
+        compact();
+        int from = lowerBound(entry(min, 0));
+        int to = max == Integer.MAX_VALUE ? sorted.length : lowerBound(entry(max + 1, 0));
+        int[] res = new int[Math.max(0, to - from)];
+        for (int i = from; i < to; i++) {
+            res[i - from] = (int) sorted[i];
+        }
+        return res;
+    }
+
+    public int count(int min, int max){
+        compact();
+        int from = lowerBound(entry(min, 0));
+        int to = max == Integer.MAX_VALUE ? sorted.length : lowerBound(entry(max + 1, 0));
+        return Math.max(0, to - from);
+    }
+
+    public int size(){
+        compact();
+        return sorted.length;
+    }
+
+    private void compact(){
+        if (pendingAddCount == 0 && pendingRemoveCount == 0) {
+            return;
+        }
+        long[] adds = Arrays.copyOf(pendingAdds, pendingAddCount);
+        long[] removes = Arrays.copyOf(pendingRemoves, pendingRemoveCount);
+        Arrays.sort(adds);
+        Arrays.sort(removes);
+
+        long[] res = new long[sorted.length + adds.length];
+        int i = 0, j = 0, r = 0, n = 0;
+        while (i < sorted.length || j < adds.length) {
+            long next;
+            if (j == adds.length || (i < sorted.length && sorted[i] <= adds[j])) {
+                next = sorted[i++];
+            } else {
+                next = adds[j++];
+            }
+            while (r < removes.length && removes[r] < next) {
+                r++;
+            }
+            if (r < removes.length && removes[r] == next) {
+                r++;
+            } else {
+                res[n++] = next;
+            }
+        }
+        sorted = n == res.length ? res : Arrays.copyOf(res, n);
+        pendingAddCount = 0;
+        pendingRemoveCount = 0;
+    }
+
+    private int lowerBound(long target){
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long entry(int k, int row){
+        return ((long) k << 32) | (row & 0xFFFFFFFFL);
+    }
+}
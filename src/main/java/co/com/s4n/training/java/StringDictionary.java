@@ -0,0 +1,43 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Asigna un codigo entero a cada String distinto, para guardar columnas repetitivas como int[].
+public class StringDictionary {
+    public static final int NULL = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    public int encode(String s){
+        if (s == null) {
+            return NULL;
+        }
+        Integer code = codes.get(s);
+        if (code == null) {
+            code = values.size();
+            codes.put(s, code);
+            values.add(s);
+        }
+        return code;
+    }
+
+    public int codeOf(String s){
+        if (s == null) {
+            return NULL;
+        }
+        Integer code = codes.get(s);
+        return code == null ? NULL : code;
+    }
+
+    public String decode(int code){
+        return code == NULL ? null : values.get(code);
+    }
+
+    public int size(){
+        return values.size();
+    }
+}
@@ -0,0 +1,113 @@
+package co.com.s4n.training.java;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Pool de Strings acotado para que valores repetidos (nombres, apellidos) compartan una instancia.
+// Es una tabla de tamaño fijo donde cada String solo puede estar en dos posiciones; si ambas estan
+// ocupadas por otros valores se reemplaza una. Cada posicion tiene un bit de uso que se prende con
+// cada acierto, como en el algoritmo del reloj: se desaloja la que no se ha usado desde que entro o
+// desde el ultimo desalojo, y si las dos se usaron se apagan ambos bits y se escoge una al azar.
+// Asi la memoria no crece con la entrada, no hay bloqueos y un valor frecuente sobrevive a una
+// serie de valores raros en sus posiciones.
+public class StringPool {
+
+    private final AtomicReferenceArray<String> table;
+    private final AtomicIntegerArray used;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public StringPool(int capacity){
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity debe ser positiva: " + capacity);
+        }
+        int n = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = new AtomicReferenceArray<>(n);
+        this.used = new AtomicIntegerArray(n);
+        this.mask = n - 1;
+    }
+
+    public String intern(String s){
+        if (s == null) {
+            return null;
+        }
+        int h = s.hashCode();
+        h ^= h >>> 16;
+        int i = h & mask;
+        int j = i ^ 1;
+
+        String a = table.get(i);
+        if (s.equals(a)) {
+            hit(i);
+            return a;
+        }
+        String b = table.get(j);
+        if (s.equals(b)) {
+            hit(j);
+            return b;
+        }
+
+        misses.increment();
+        if (a == null && table.compareAndSet(i, null, s)) {
+            return s;
+        }
+        if (b == null && table.compareAndSet(j, null, s)) {
+            return s;
+        }
+        // Las dos posiciones estan ocupadas: se reemplaza la que no se ha usado
+        int victim;
+        if (used.get(i) == 0) {
+            victim = i;
+        } else if (used.get(j) == 0) {
+            victim = j;
+        } else {
+            used.set(i, 0);
+            used.set(j, 0);
+            victim = ThreadLocalRandom.current().nextBoolean() ? i : j;
+        }
+        table.set(victim, s);
+        used.set(victim, 0);
+        evictions.increment();
+        return s;
+    }
+
+    private void hit(int slot){
+        hits.increment();
+        // Solo se escribe si el bit esta apagado, para no pelear por la linea de cache en cada acierto
+        if (used.get(slot) == 0) {
+            used.lazySet(slot, 1);
+        }
+    }
+
+    public int capacity(){
+        return table.length();
+    }
+
+    public long hits(){
+        return hits.sum();
+    }
+
+    public long misses(){
+        return misses.sum();
+    }
+
+    public long evictions(){
+        return evictions.sum();
+    }
+
+    public double hitRate(){
+        long h = hits();
+        long total = h + misses();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    @Override
+    public String toString(){
+        return "StringPool(capacity=" + capacity() + ", hits=" + hits() + ", misses=" + misses()
+                + ", evictions=" + evictions() + ")";
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.s4n.training.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Los k mayores elementos segun `comparator`, de mayor a menor. Guarda a lo sumo k elementos en un
+// min-heap, asi que no hay que ordenar toda la entrada: cada elemento nuevo solo se compara con el
+// menor de los que ya estan.
+public class TopKCollector<T> implements Collector<T, PriorityQueue<T>, List<T>> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+
+    public TopKCollector(int k, Comparator<? super T> comparator){
+        if (k <= 0) {
+            throw new IllegalArgumentException("k debe ser positivo: " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+    }
+
+    public static TopKCollector<Person> oldest(int k){
+        return new TopKCollector<>(k, Comparator.comparingInt(Person::getEdad));
+    }
+
+    public static TopKCollector<CollectablePerson> oldestCollectable(int k){
+        return new TopKCollector<>(k, Comparator.comparingInt((CollectablePerson p) -> p.age));
+    }
+
+    @Override
+    public Supplier<PriorityQueue<T>> supplier() {
+        return () -> new PriorityQueue<>(k + 1, comparator);
+    }
+
+    @Override
+    public BiConsumer<PriorityQueue<T>, T> accumulator() {
+        return this::offer;
+    }
+
+    @Override
+    public BinaryOperator<PriorityQueue<T>> combiner() {
+        return (PriorityQueue<T> a, PriorityQueue<T> b) -> {
+            for (T t : b) {
+                offer(a, t);
+            }
+            return a;
+        };
+    }
+
+    @Override
+    public Function<PriorityQueue<T>, List<T>> finisher() {
+        return (PriorityQueue<T> heap) -> {
+            List<T> res = new ArrayList<>(heap);
+            res.sort(Collections.reverseOrder(comparator));
+            return res;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return EnumSet.of(Characteristics.UNORDERED);
+    }
+
+    private void offer(PriorityQueue<T> heap, T t){
+        if (heap.size() < k) {
+            heap.add(t);
+        } else if (comparator.compare(t, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(t);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.s4n.training.java;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Acceso a los hilos virtuales (Java 21+) sin depender de esa version para compilar: el metodo
+// Executors.newVirtualThreadPerTaskExecutor se busca por reflexion. Se pueden apagar con
+// -Ds4n.virtualThreads=false para comparar contra un pool de hilos de plataforma.
+public final class VirtualThreads {
+
+    public static final String PROPERTY = "s4n.virtualThreads";
+
+    private static final Option<Method> FACTORY = Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))
+            ? Try.of(() -> Executors.class.getMethod("newVirtualThreadPerTaskExecutor")).toOption()
+            : Option.none();
+
+    private VirtualThreads(){
+    }
+
+    public static boolean isAvailable(){
+        return FACTORY.isDefined();
+    }
+
+    // Un executor que crea un hilo virtual por tarea, o None si el runtime no los soporta
+    public static Option<ExecutorService> newPerTaskExecutor(){
+        return FACTORY.flatMap(m -> Try.of(() -> (ExecutorService) m.invoke(null)).toOption());
+    }
+}
@@ -0,0 +1,69 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.AgeStatistics;
+import co.com.s4n.training.java.AgeStatisticsCollector;
+import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class AgeStatisticsSuite {
+
+    @Test
+    public void testEstadisticasDePersonas(){
+        List<Person> personas = Arrays.asList(
+                new Person(18, "Max", "Ocampo", "a@s4n.com"),
+                new Person(23, "Peter", "Gomez", "b@s4n.com"),
+                new Person(23, "Pamela", "Diaz", "c@s4n.com"),
+                new Person(12, "David", "Lopez", "d@s4n.com"));
+
+        AgeStatistics stats = personas.stream().collect(AgeStatisticsCollector.forPerson());
+
+        assertEquals(4, stats.getCount());
+        assertEquals(76, stats.getSum());
+        assertEquals(12, stats.getMin());
+        assertEquals(23, stats.getMax());
+        assertEquals(19D, stats.getAverage(), 0.0001);
+        assertArrayEquals(new long[]{0, 2, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, stats.getHistogram());
+    }
+
+    @Test
+    public void testIgualQueSummarizingEnParalelo(){
+        List<CollectablePerson> personas = IntStream.range(0, 100000)
+                .mapToObj(i -> new CollectablePerson("p", (i * 31) % 150 - 5))
+                .collect(Collectors.toList());
+
+        IntSummaryStatistics esperado = personas.stream().collect(Collectors.summarizingInt(p -> p.age));
+        AgeStatistics stats = personas.parallelStream().collect(AgeStatisticsCollector.forCollectablePerson());
+
+        assertEquals(esperado.getCount(), stats.getCount());
+        assertEquals(esperado.getSum(), stats.getSum());
+        assertEquals(esperado.getMin(), stats.getMin());
+        assertEquals(esperado.getMax(), stats.getMax());
+        assertEquals(esperado.getAverage(), stats.getAverage(), 0.0001);
+        assertEquals(stats.getCount(), Arrays.stream(stats.getHistogram()).sum());
+        // Negativos en el primer rango, 120 o mas en el ultimo
+        assertEquals(personas.stream().filter(p -> p.age < 10).count(), stats.getBucket(0));
+        assertEquals(personas.stream().filter(p -> p.age >= 120).count(), stats.getBucket(12));
+    }
+
+    @Test
+    public void testSinElementos(){
+        AgeStatistics stats = IntStream.empty().boxed()
+                .collect(new AgeStatisticsCollector<Integer>(i -> i, 5, 4));
+
+        assertEquals(0, stats.getCount());
+        assertEquals(0.0, stats.getAverage());
+        assertEquals(4, stats.getHistogram().length);
+    }
+}
@@ -0,0 +1,163 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.Deadline;
+import co.com.s4n.training.java.DeadlineFuture;
+import co.com.s4n.training.java.HashedWheelTimer;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class DeadlineFutureSuite {
+
+    private static void dormir(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Las etapas sueltan el timeout en un whenComplete que puede correr despues de que join() retorna
+    private static void esperarSinTimeouts(HashedWheelTimer timer){
+        for (int i = 0; i < 100 && timer.pendingTimeouts() > 0; i++) {
+            dormir(10);
+        }
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void testRuedaDisparaYCancela() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 8)) {
+            CountDownLatch disparo = new CountDownLatch(2);
+            AtomicInteger cancelada = new AtomicInteger();
+
+            timer.schedule(disparo::countDown, 5, TimeUnit.MILLISECONDS);
+            // Mas de una vuelta de la rueda
+            timer.schedule(disparo::countDown, 30, TimeUnit.MILLISECONDS);
+            HashedWheelTimer.Timeout t = timer.schedule(cancelada::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+            assertTrue(t.cancel());
+
+            assertTrue(disparo.await(1, TimeUnit.SECONDS));
+            dormir(20);
+            assertEquals(0, cancelada.get());
+            assertTrue(t.isCancelled());
+            assertFalse(t.cancel());
+        }
+    }
+
+    @Test
+    public void testCadenaDentroDelPlazo(){
+        ExecutorService es = Executors.newFixedThreadPool(2);
+        try {
+            DeadlineFuture<String> f = DeadlineFuture
+                    .supplyAsync(() -> "Hello", es, Deadline.in(1, TimeUnit.SECONDS))
+                    .thenCompose(s -> CompletableFuture.supplyAsync(() -> s + " World", es))
+                    .thenCombine(CompletableFuture.supplyAsync(() -> "!", es), (s1, s2) -> s1 + s2)
+                    .thenApply(String::toUpperCase);
+
+            assertEquals("HELLO WORLD!", f.join());
+        } finally {
+            es.shutdown();
+        }
+    }
+
+    @Test
+    public void testEtapaLentaSeCancelaAlVencer() throws Exception {
+        ExecutorService es = Executors.newFixedThreadPool(2);
+        try {
+            AtomicReference<CompletableFuture<String>> interno = new AtomicReference<>();
+            AtomicInteger despues = new AtomicInteger();
+            DeadlineFuture<Integer> f = DeadlineFuture
+                    .supplyAsync(() -> "Hello", es, Deadline.in(50, TimeUnit.MILLISECONDS))
+                    .thenCompose(s -> {
+                        CompletableFuture<String> lenta = CompletableFuture.supplyAsync(() -> {
+                            dormir(500);
+                            return s + " World";
+                        }, es);
+                        interno.set(lenta);
+                        return lenta;
+                    })
+                    .thenApply(s -> despues.incrementAndGet());
+
+            long inicio = System.nanoTime();
+            CompletionException e = assertThrows(CompletionException.class, f::join);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+            assertTrue(e.getCause() instanceof TimeoutException);
+            assertTrue(millis < 400, "Tardo " + millis + "ms");
+            // El interno se completa con el timeout y no con su valor, que llegaria a los 500ms
+            assertTrue(interno.get().handle((v, ex) -> ex).get(1, TimeUnit.SECONDS) instanceof TimeoutException);
+            assertEquals(0, despues.get());
+        } finally {
+            es.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTareaEncoladaDespuesDelPlazoNoCorre(){
+        ExecutorService es = Executors.newSingleThreadExecutor();
+        try {
+            es.execute(() -> dormir(100));
+            AtomicInteger corrio = new AtomicInteger();
+            DeadlineFuture<Integer> f = DeadlineFuture
+                    .supplyAsync(corrio::incrementAndGet, es, Deadline.in(20, TimeUnit.MILLISECONDS));
+
+            assertThrows(CompletionException.class, f::join);
+            dormir(150);
+            assertEquals(0, corrio.get());
+        } finally {
+            es.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCadenaTerminadaSueltaSuTimeout(){
+        ExecutorService es = Executors.newFixedThreadPool(2);
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", 10, TimeUnit.MILLISECONDS, 64)) {
+            for (int i = 0; i < 1000; i++) {
+                int n = i;
+                DeadlineFuture<Integer> f = DeadlineFuture
+                        .supplyAsync(() -> n, es, Deadline.in(60, TimeUnit.SECONDS), timer)
+                        .thenApply(x -> x + 1);
+                assertEquals(Integer.valueOf(n + 1), f.join());
+            }
+            esperarSinTimeouts(timer);
+
+            CompletableFuture<Integer> bloqueo = new CompletableFuture<>();
+            DeadlineFuture<Integer> lenta = DeadlineFuture
+                    .supplyAsync(() -> 1, es, Deadline.in(60, TimeUnit.SECONDS), timer)
+                    .thenCompose(x -> bloqueo);
+            // Mientras haya una etapa sin terminar el timeout sigue programado
+            dormir(20);
+            assertEquals(1, timer.pendingTimeouts());
+            bloqueo.complete(2);
+            assertEquals(Integer.valueOf(2), lenta.join());
+            esperarSinTimeouts(timer);
+        } finally {
+            es.shutdown();
+        }
+    }
+
+    @Test
+    public void testOrTimeout(){
+        CompletableFuture<String> lento = DeadlineFuture.orTimeout(new CompletableFuture<>(), 20, TimeUnit.MILLISECONDS);
+        CompletionException e = assertThrows(CompletionException.class, lento::join);
+        assertTrue(e.getCause() instanceof TimeoutException);
+
+        CompletableFuture<String> rapido = DeadlineFuture.orTimeout(CompletableFuture.completedFuture("ok"), 20, TimeUnit.MILLISECONDS);
+        assertEquals("ok", rapido.join());
+    }
+}
@@ -7,6 +7,13 @@ import java.util.stream.Stream;
 
 public class EjercicioConTry {
 
+    // Resultados constantes ya calculados: fizzSuccess, buzzSuccess y estaVacioSuccess los reutilizan
+    // en vez de crear una lambda y un Success nuevos en cada llamada.
+    public static final Try<String> EMPTY = Try.success("");
+    public static final Try<String> FIZZ = Try.success("Fizz");
+    public static final Try<String> BUZZ = Try.success("Buzz");
+    public static final Try<String> FIZZ_BUZZ = Try.success("FizzBuzz");
+
     public static Try<String> fizz(Integer i){
         return i % 3 == 0 ? Try.of(()->"Fizz") : Try.of(()->"");
     }
@@ -26,4 +33,32 @@ public class EjercicioConTry {
     public static Try<String> estaVacio(String s, Integer i){
         return s.isEmpty() ? Try.of(()->i.toString()):Try.of(()->s);
     }
+
+    public static Try<String> fizzSuccess(int i){
+        return i % 3 == 0 ? FIZZ : EMPTY;
+    }
+
+    public static Try<String> buzzSuccess(int i, String s){
+        if (i % 5 != 0) {
+            return success(s);
+        }
+        if (s.isEmpty()) {
+            return BUZZ;
+        }
+        return "Fizz".equals(s) ? FIZZ_BUZZ : Try.success(s + "Buzz");
+    }
+
+    public static Try<String> estaVacioSuccess(String s, int i){
+        return s.isEmpty() ? Try.success(Integer.toString(i)) : success(s);
+    }
+
+    private static Try<String> success(String s){
+        switch (s) {
+            case "": return EMPTY;
+            case "Fizz": return FIZZ;
+            case "Buzz": return BUZZ;
+            case "FizzBuzz": return FIZZ_BUZZ;
+            default: return Try.success(s);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.ExecutorRegistry;
+import co.com.s4n.training.java.InstrumentedExecutor;
+import co.com.s4n.training.java.RejectionPolicy;
+import co.com.s4n.training.java.VirtualThreads;
+import io.vavr.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class ExecutorRegistrySuite {
+
+    @Test
+    public void testCompletableFutureYFutureDeVavrEnElMismoPool() throws Exception {
+        try (ExecutorRegistry registry = new ExecutorRegistry()) {
+            InstrumentedExecutor pool = registry.pool("io", 2, 100, RejectionPolicy.ABORT);
+
+            CompletableFuture<String> cf = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), pool);
+            Future<String> f = Future.ofSupplier(pool, () -> Thread.currentThread().getName());
+
+            assertTrue(cf.get(1, TimeUnit.SECONDS).startsWith("io-"));
+            assertTrue(f.await().get().startsWith("io-"));
+            assertSame(pool, registry.pool("io"));
+            // Pedirlo otra vez con otra configuracion retorna el mismo pool
+            assertSame(pool, registry.pool("io", 8, 10, RejectionPolicy.DISCARD));
+        }
+    }
+
+    @Test
+    public void testMetricas() throws Exception {
+        try (ExecutorRegistry registry = new ExecutorRegistry()) {
+            InstrumentedExecutor pool = registry.pool("metricas", 1, 10, RejectionPolicy.ABORT);
+            CountDownLatch bloqueo = new CountDownLatch(1);
+
+            pool.execute(() -> {
+                try {
+                    bloqueo.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 5; i++) {
+                pool.execute(() -> { });
+            }
+            pool.execute(() -> {
+                throw new IllegalStateException("falla");
+            });
+            // submit() guarda la excepcion en el FutureTask en vez de lanzarla
+            pool.submit(() -> {
+                throw new IllegalStateException("falla");
+            });
+
+            assertEquals(7, pool.getQueueDepth());
+            assertEquals(7, pool.getMaxQueueDepth());
+            bloqueo.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+
+            assertEquals(8, pool.getSubmitted());
+            assertEquals(6, pool.getCompleted());
+            assertEquals(2, pool.getFailed());
+            assertEquals(0, pool.getQueueDepth());
+            assertTrue(pool.getAverageQueueMillis() >= 0);
+        }
+    }
+
+    @Test
+    public void testColaLlenaSeRechaza() throws Exception {
+        try (ExecutorRegistry registry = new ExecutorRegistry()) {
+            InstrumentedExecutor pool = registry.pool("acotado", 1, 1, RejectionPolicy.ABORT);
+            CountDownLatch bloqueo = new CountDownLatch(1);
+            pool.execute(() -> {
+                try {
+                    bloqueo.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            pool.execute(() -> { });
+
+            assertThrows(RejectedExecutionException.class, () -> pool.execute(() -> { }));
+            assertEquals(1, pool.getRejected());
+
+            // Con CALLER_RUNS la tarea corre en el hilo que la envia
+            InstrumentedExecutor callerRuns = registry.pool("caller", 1, 1, RejectionPolicy.CALLER_RUNS);
+            callerRuns.execute(() -> {
+                try {
+                    bloqueo.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            callerRuns.execute(() -> { });
+            String[] hilo = new String[1];
+            callerRuns.execute(() -> hilo[0] = Thread.currentThread().getName());
+            assertEquals(Thread.currentThread().getName(), hilo[0]);
+            bloqueo.countDown();
+        }
+    }
+
+    @Test
+    public void testCicloDeVida() throws Exception {
+        ExecutorRegistry registry = new ExecutorRegistry();
+        InstrumentedExecutor pool = registry.pool("corto", 1, 10, RejectionPolicy.ABORT);
+
+        assertTrue(registry.shutdown("corto", 1, TimeUnit.SECONDS));
+        assertTrue(pool.isTerminated());
+        assertThrows(NoSuchElementException.class, () -> registry.pool("corto"));
+
+        // shutdownNow retorna las tareas que se enviaron, no las envolturas del pool
+        InstrumentedExecutor bloqueado = registry.pool("bloqueado", 1, 10, RejectionPolicy.ABORT);
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        bloqueado.execute(() -> {
+            try {
+                bloqueo.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Runnable encolada = () -> { };
+        bloqueado.execute(encolada);
+        assertEquals(Collections.singletonList(encolada), bloqueado.shutdownNow());
+
+        registry.close();
+        assertThrows(IllegalStateException.class, () -> registry.pool("otro", 1, 1, RejectionPolicy.ABORT));
+    }
+
+    @Test
+    public void testExecutorParaTareasBloqueantes() throws Exception {
+        try (ExecutorRegistry registry = new ExecutorRegistry()) {
+            ExecutorService executor = registry.blocking("bloqueante", 4, 100);
+            assertSame(executor, registry.blocking("bloqueante", 4, 100));
+            // Sin hilos virtuales se usa un pool de plataforma del registro
+            assertEquals(!VirtualThreads.isAvailable(), executor instanceof InstrumentedExecutor);
+
+            Future<Integer> suma = Future.of(executor, () -> {
+                Thread.sleep(10);
+                return 1 + 1;
+            }).flatMap(a -> Future.of(executor, () -> {
+                Thread.sleep(10);
+                return a - 1;
+            }));
+            CompletableFuture<Integer> cf = CompletableFuture.supplyAsync(() -> 2 + 3, executor)
+                    .thenApplyAsync(a -> a - 1, executor);
+
+            assertEquals(Integer.valueOf(1), suma.await().get());
+            assertEquals(Integer.valueOf(4), cf.get(1, TimeUnit.SECONDS));
+
+            assertTrue(registry.shutdown("bloqueante", 1, TimeUnit.SECONDS));
+            assertTrue(executor.isShutdown());
+        }
+    }
+}
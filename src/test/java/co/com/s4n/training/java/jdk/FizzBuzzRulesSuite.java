@@ -0,0 +1,65 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.FizzBuzz;
+import co.com.s4n.training.java.FizzBuzzRules;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.stream.LongStream;
+
+import static co.com.s4n.training.java.FizzBuzzRules.rule;
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class FizzBuzzRulesSuite {
+
+    @Test
+    public void testReglasClasicas(){
+        assertTrue(FizzBuzzRules.CLASSIC.isTabulated());
+        assertEquals(15, FizzBuzzRules.CLASSIC.cycle());
+
+        LongStream.rangeClosed(-50, 200).forEach(i ->
+                assertEquals(FizzBuzz.of(i), FizzBuzzRules.CLASSIC.apply(i)));
+    }
+
+    @Test
+    public void testMasReglas(){
+        FizzBuzzRules rules = FizzBuzzRules.of(rule(3, "Fizz"), rule(5, "Buzz"), rule(7, "Bazz"));
+
+        assertEquals(105, rules.cycle());
+        assertEquals("Bazz", rules.apply(7));
+        assertEquals("FizzBazz", rules.apply(21));
+        assertEquals("FizzBuzzBazz", rules.apply(105));
+        assertEquals("11", rules.apply(11));
+        // Los tokens de la tabla se reutilizan, no se crea un String por numero
+        assertSame(rules.apply(21), rules.apply(21 + 105));
+    }
+
+    @Test
+    public void testCicloDemasiadoGrande(){
+        FizzBuzzRules rules = FizzBuzzRules.of(rule(1009, "A"), rule(1013, "B"));
+
+        assertFalse(rules.isTabulated());
+        assertEquals("A", rules.apply(1009));
+        assertEquals("AB", rules.apply(1009L * 1013));
+        assertEquals("5", rules.apply(5));
+    }
+
+    @Test
+    public void testWriteIgualQueApply(){
+        FizzBuzzRules rules = FizzBuzzRules.of(rule(2, "Foo"), rule(3, "Bar"));
+        StringBuilder esperado = new StringBuilder();
+        LongStream.rangeClosed(-7, 40).forEach(i -> esperado.append(rules.apply(i)).append('\n'));
+
+        StringBuilder res = new StringBuilder();
+        rules.write(-7, 40, new StringBuilder(), 32, res::append);
+
+        assertEquals(esperado.toString(), res.toString());
+    }
+
+    @Test
+    public void testDivisorInvalido(){
+        assertThrows(IllegalArgumentException.class, () -> rule(0, "Cero"));
+    }
+}
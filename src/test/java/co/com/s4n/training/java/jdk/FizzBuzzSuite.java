@@ -0,0 +1,142 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.ChannelLineWriter;
+import co.com.s4n.training.java.Ejercicio;
+import co.com.s4n.training.java.FizzBuzz;
+import co.com.s4n.training.java.FizzBuzzRules;
+import co.com.s4n.training.java.ParallelFizzBuzz;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@RunWith(JUnitPlatform.class)
+public class FizzBuzzSuite {
+
+    private static String conOption(Integer x){
+        return Ejercicio.fizz(x)
+                .flatMap(y -> Ejercicio.buzz(x, y))
+                .flatMap(z -> Ejercicio.estaVacio(z, x))
+                .get();
+    }
+
+    @Test
+    public void testFizzBuzzIgualQueConOption(){
+        List<String> esperado = Ejercicio.streamNumbers()
+                .map(FizzBuzzSuite::conOption)
+                .collect(Collectors.toList());
+
+        List<String> res = FizzBuzz.numbers()
+                .mapToObj(FizzBuzz::of)
+                .collect(Collectors.toList());
+
+        assertEquals(esperado, res);
+        assertEquals(Option.of("FizzBuzz"), Ejercicio.fizzBuzz(15));
+        assertEquals(Option.of("7"), Ejercicio.fizzBuzz(7));
+    }
+
+    @Test
+    public void testWriteEnBuffer(){
+        StringBuilder esperado = new StringBuilder();
+        FizzBuzz.numbers().forEach(i -> FizzBuzz.append(esperado, i).append('\n'));
+
+        StringBuilder res = new StringBuilder();
+        List<Integer> flushes = new ArrayList<>();
+        // Un buffer pequeño obliga a vaciarlo varias veces
+        FizzBuzz.write(1, 100, new StringBuilder(), 64, cs -> {
+            flushes.add(cs.length());
+            res.append(cs);
+        });
+
+        assertEquals(esperado.toString(), res.toString());
+        assertEquals(true, flushes.size() > 1);
+    }
+
+    @Test
+    public void testWriteHastaLongMaxValue(){
+        StringBuilder res = new StringBuilder();
+        FizzBuzz.write(Long.MAX_VALUE - 2, Long.MAX_VALUE, new StringBuilder(), 1024, res::append);
+
+        String esperado = FizzBuzz.of(Long.MAX_VALUE - 2) + "\n"
+                + FizzBuzz.of(Long.MAX_VALUE - 1) + "\n"
+                + FizzBuzz.of(Long.MAX_VALUE) + "\n";
+        assertEquals(esperado, res.toString());
+    }
+
+    @Test
+    public void testWriteNegativos(){
+        StringBuilder res = new StringBuilder();
+        FizzBuzz.write(-3, 0, new StringBuilder(), 1024, res::append);
+
+        assertEquals("Fizz\n-2\n-1\nFizzBuzz\n", res.toString());
+    }
+
+    @Test
+    public void testWriteAArchivo() throws Exception {
+        Path archivo = Files.createTempFile("fizzbuzz", ".txt");
+        try {
+            StringBuilder esperado = new StringBuilder();
+            FizzBuzz.write(1, 100000, new StringBuilder(), 1024, esperado::append);
+
+            try (ChannelLineWriter writer = ChannelLineWriter.toFile(archivo)) {
+                FizzBuzz.write(1, 100000, new StringBuilder(), 1024, writer);
+            }
+
+            assertEquals(esperado.toString(), new String(Files.readAllBytes(archivo), StandardCharsets.US_ASCII));
+        } finally {
+            Files.delete(archivo);
+        }
+    }
+
+    @Test
+    public void testWriterConCaracteresNoAscii() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Buffer de 4 bytes para que la codificacion tenga que vaciarlo en medio de la linea
+        try (ChannelLineWriter writer = new ChannelLineWriter(Channels.newChannel(out), 4)) {
+            writer.writeLine("Fizz");
+            writer.writeLine("tamaño ñandú");
+        }
+
+        assertEquals("Fizz\ntamaño ñandú\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testParaleloIgualQueSecuencial(){
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Bloques de 7 numeros y tandas de 3 bloques para que haya varias tandas y un bloque incompleto
+            ParallelFizzBuzz paralelo = new ParallelFizzBuzz(pool, FizzBuzzRules.CLASSIC, 7, 3);
+
+            StringBuilder esperado = new StringBuilder();
+            FizzBuzz.write(-20, 1000, new StringBuilder(), 1024, esperado::append);
+
+            assertEquals(esperado.toString(), paralelo.render(-20, 1000));
+            assertEquals("FizzBuzz\n", paralelo.render(15, 15));
+            assertEquals("", paralelo.render(10, 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParaleloHastaLongMaxValue(){
+        StringBuilder esperado = new StringBuilder();
+        FizzBuzz.write(Long.MAX_VALUE - 100, Long.MAX_VALUE, new StringBuilder(), 1024, esperado::append);
+
+        ParallelFizzBuzz paralelo = new ParallelFizzBuzz(ForkJoinPool.commonPool(), FizzBuzzRules.CLASSIC, 16, 2);
+
+        assertEquals(esperado.toString(), paralelo.render(Long.MAX_VALUE - 100, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,150 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.Hedge;
+import io.vavr.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class HedgeSuite {
+
+    private ExecutorService es;
+
+    @BeforeEach
+    public void setup(){
+        es = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown(){
+        es.shutdownNow();
+    }
+
+    // La primera llamada tarda `lenta` ms (o hasta que la interrumpan), las demas responden de una vez
+    private Supplier<String> primeraLenta(long lenta, CountDownLatch interrumpida){
+        AtomicInteger llamadas = new AtomicInteger();
+        return () -> {
+            if (llamadas.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(lenta);
+                } catch (InterruptedException e) {
+                    interrumpida.countDown();
+                    throw new IllegalStateException("Cancelada");
+                }
+                return "primaria";
+            }
+            return "respaldo";
+        };
+    }
+
+    @Test
+    public void testRespaldoGanaYLaPrimariaSeCancela() throws Exception {
+        Hedge hedge = Hedge.after(es, 20, TimeUnit.MILLISECONDS);
+        CountDownLatch interrumpida = new CountDownLatch(1);
+
+        CompletableFuture<String> f = hedge.supplyAsync(primeraLenta(5000, interrumpida));
+
+        assertEquals("respaldo", f.get(1, TimeUnit.SECONDS));
+        assertTrue(interrumpida.await(1, TimeUnit.SECONDS));
+        assertEquals(1, hedge.getBackups());
+        assertEquals(1, hedge.getBackupWins());
+    }
+
+    @Test
+    public void testSinRespaldoSiLaPrimariaEsRapida(){
+        Hedge hedge = Hedge.after(es, 200, TimeUnit.MILLISECONDS);
+
+        assertEquals("primaria", hedge.supplyAsync(() -> "primaria").join());
+        assertEquals(1, hedge.getRequests());
+        assertEquals(0, hedge.getBackups());
+    }
+
+    @Test
+    public void testFallaDeLaPrimariaLanzaElRespaldoDeUnaVez() throws Exception {
+        Hedge hedge = Hedge.after(es, 10, TimeUnit.SECONDS);
+        AtomicInteger llamadas = new AtomicInteger();
+
+        CompletableFuture<Integer> f = hedge.supplyAsync(() -> {
+            if (llamadas.incrementAndGet() == 1) {
+                throw new IllegalStateException("falla");
+            }
+            return 7;
+        });
+
+        assertEquals(Integer.valueOf(7), f.get(1, TimeUnit.SECONDS));
+        assertEquals(1, hedge.getBackups());
+    }
+
+    @Test
+    public void testAmbasFallan(){
+        Hedge hedge = Hedge.after(es, 10, TimeUnit.MILLISECONDS);
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> hedge.supplyAsync(() -> { throw new IllegalStateException("falla"); }).join());
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testCompose() throws Exception {
+        Hedge hedge = Hedge.after(es, 20, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> nunca = new CompletableFuture<>();
+        AtomicInteger llamadas = new AtomicInteger();
+
+        String[] hiloRespaldo = new String[1];
+
+        CompletableFuture<String> f = hedge.compose(() -> {
+            if (llamadas.getAndIncrement() == 0) {
+                return nunca;
+            }
+            hiloRespaldo[0] = Thread.currentThread().getName();
+            return CompletableFuture.supplyAsync(() -> "respaldo", es);
+        });
+
+        assertEquals("respaldo", f.get(1, TimeUnit.SECONDS));
+        assertTrue(nunca.isCancelled());
+        // El respaldo no corre en el hilo de la rueda compartida
+        assertFalse(hiloRespaldo[0].startsWith("s4n-wheel-timer"));
+    }
+
+    @Test
+    public void testFutureDeVavr() throws Exception {
+        Hedge hedge = Hedge.after(es, 20, TimeUnit.MILLISECONDS);
+        CountDownLatch interrumpida = new CountDownLatch(1);
+        Supplier<String> s = primeraLenta(5000, interrumpida);
+
+        Future<String> f = hedge.future(s::get);
+
+        assertEquals("respaldo", f.await().get());
+        assertTrue(interrumpida.await(1, TimeUnit.SECONDS));
+
+        Future<String> falla = hedge.future(() -> { throw new IllegalStateException("falla"); });
+        assertTrue(falla.await().getCause().get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testRetrasoPorCuantil(){
+        Hedge hedge = Hedge.atQuantile(es, 0.95, 1, TimeUnit.SECONDS);
+        assertEquals(1000, hedge.delay(TimeUnit.MILLISECONDS));
+
+        for (int i = 0; i < Hedge.MIN_SAMPLES; i++) {
+            hedge.supplyAsync(() -> "rapida").join();
+        }
+
+        assertTrue(hedge.delay(TimeUnit.MILLISECONDS) < 1000);
+        assertEquals(0, hedge.getBackups());
+    }
+}
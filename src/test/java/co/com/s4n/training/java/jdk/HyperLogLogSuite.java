@@ -0,0 +1,67 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.DistinctCountCollector;
+import co.com.s4n.training.java.HyperLogLog;
+import co.com.s4n.training.java.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class HyperLogLogSuite {
+
+    private static List<Person> personas(int desde, int hasta, int distintos){
+        return IntStream.range(desde, hasta)
+                .mapToObj(i -> new Person(i % 90, "n", "a", "correo" + (i % distintos) + "@s4n.com"))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testCorreosDistintos(){
+        List<Person> personas = personas(0, 1000000, 200000);
+
+        HyperLogLog hll = personas.parallelStream().collect(DistinctCountCollector.correos());
+
+        // Error estandar ~1.6% con precision 12; se deja margen de 5%
+        assertEquals(200000, hll.estimate(), 200000 * 0.05);
+    }
+
+    @Test
+    public void testPocosValores(){
+        HyperLogLog hll = new HyperLogLog();
+        hll.add("a@s4n.com");
+        hll.add("b@s4n.com");
+        hll.add("a@s4n.com");
+        hll.add(null);
+
+        assertEquals(2, hll.estimate());
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    public void testMezclarResultadosSerializados(){
+        // Dos "nodos" con correos que se traslapan en la mitad
+        HyperLogLog nodo1 = personas(0, 50000, 50000).stream().collect(DistinctCountCollector.correos(14));
+        HyperLogLog nodo2 = personas(25000, 75000, 75000).stream().collect(DistinctCountCollector.correos(14));
+
+        byte[] enviado = nodo2.toByteArray();
+        assertEquals(2 + (1 << 14), enviado.length);
+
+        HyperLogLog total = HyperLogLog.fromByteArray(nodo1.toByteArray()).merge(HyperLogLog.fromByteArray(enviado));
+        assertEquals(nodo2, HyperLogLog.fromByteArray(enviado));
+        assertEquals(75000, total.estimate(), 75000 * 0.03);
+    }
+
+    @Test
+    public void testPrecisionesIncompatibles(){
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(12).merge(new HyperLogLog(10)));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromByteArray(new byte[]{1, 12, 0}));
+    }
+}
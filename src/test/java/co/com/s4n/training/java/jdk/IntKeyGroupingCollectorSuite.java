@@ -0,0 +1,58 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.IntGroups;
+import co.com.s4n.training.java.IntKeyGroupingCollector;
+import co.com.s4n.training.java.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class IntKeyGroupingCollectorSuite {
+
+    @Test
+    public void testAgruparPersonasPorEdad(){
+        List<Person> personas = Arrays.asList(
+                new Person(18, "Max", "Ocampo", "a@s4n.com"),
+                new Person(23, "Peter", "Gomez", "b@s4n.com"),
+                new Person(23, "Pamela", "Diaz", "c@s4n.com"),
+                new Person(12, "David", "Lopez", "d@s4n.com"));
+
+        IntGroups<Person> porEdad = personas.stream().collect(IntKeyGroupingCollector.byEdad());
+
+        assertEquals(3, porEdad.size());
+        assertArrayEquals(new int[]{12, 18, 23}, porEdad.keys());
+        assertEquals(Arrays.asList(personas.get(1), personas.get(2)), porEdad.get(23));
+        assertTrue(porEdad.get(99).isEmpty());
+    }
+
+    @Test
+    public void testIgualQueGroupingByEnParalelo(){
+        List<CollectablePerson> personas = IntStream.range(0, 100000)
+                .mapToObj(i -> new CollectablePerson("p" + i, (i * 7919) % 200 - 50))
+                .collect(Collectors.toList());
+
+        Map<Integer, List<CollectablePerson>> esperado = personas.stream()
+                .collect(Collectors.groupingBy(p -> p.age));
+
+        // byAge usa arreglo directo para [0, 127]; las edades negativas y mayores van a la tabla hash
+        assertEquals(esperado, personas.parallelStream().collect(IntKeyGroupingCollector.byAge()).toMap());
+        assertEquals(esperado, personas.parallelStream()
+                .collect(IntKeyGroupingCollector.groupingBy((CollectablePerson p) -> p.age)).toMap());
+    }
+
+    @Test
+    public void testRangoInvalido(){
+        assertThrows(IllegalArgumentException.class,
+                () -> IntKeyGroupingCollector.groupingBy((Person p) -> p.getEdad(), 10, 0));
+    }
+}
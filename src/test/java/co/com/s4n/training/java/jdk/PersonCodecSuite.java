@@ -0,0 +1,125 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.Person;
+import co.com.s4n.training.java.PersonCodec;
+import co.com.s4n.training.java.PersonFlyweight;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class PersonCodecSuite {
+
+    private List<Person> personas(){
+        return Arrays.asList(
+                new Person(23, "Andres", "Ocampo", "andresocampo@s4n.com"),
+                new Person(31, "Pamela", "Díaz", "pamela.díaz@s4n.com"),
+                new Person(12, "Sin", null, null),
+                new Person(0, "", "", ""));
+    }
+
+    @Test
+    public void testEscribirYLeer(){
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        List<Integer> offsets = new ArrayList<>();
+        for (Person p : personas()) {
+            offsets.add(buffer.position());
+            PersonCodec.write(buffer, p);
+            assertEquals(PersonCodec.encodedSize(p), buffer.position() - offsets.get(offsets.size() - 1));
+        }
+
+        for (int i = 0; i < offsets.size(); i++) {
+            assertEquals(personas().get(i), PersonCodec.read(buffer, offsets.get(i)));
+        }
+    }
+
+    @Test
+    public void testFlyweightSobreArchivoMapeado() throws Exception {
+        List<Person> personas = IntStream.range(0, 10000)
+                .mapToObj(i -> new Person(i % 90, "Nombre" + i, "Apellido" + (i % 50), "correo" + i + "@s4n.com"))
+                .collect(Collectors.toList());
+        Path archivo = Files.createTempFile("personas", ".bin");
+        try {
+            long bytes = PersonCodec.writeAll(personas, archivo);
+            assertEquals(bytes, Files.size(archivo));
+
+            MappedByteBuffer mapped = PersonCodec.map(archivo);
+            byte[] buscado = "correo777@s4n.com".getBytes(StandardCharsets.UTF_8);
+            int[] total = new int[3];
+            PersonCodec.forEach(mapped, p -> {
+                total[0]++;
+                total[1] += p.getEdad();
+                if (p.correoEquals(buscado)) {
+                    total[2] = p.getEdad();
+                    assertEquals("Nombre777", p.getNombre());
+                }
+            });
+
+            assertEquals(10000, total[0]);
+            assertEquals(personas.stream().mapToInt(Person::getEdad).sum(), total[1]);
+            assertEquals(777 % 90, total[2]);
+
+            List<Person> leidas = new ArrayList<>();
+            PersonCodec.forEach(mapped, p -> leidas.add(p.toPerson()));
+            assertEquals(personas, leidas);
+        } finally {
+            Files.delete(archivo);
+        }
+    }
+
+    @Test
+    public void testCampoDemasiadoLargo(){
+        char[] largo = new char[PersonCodec.MAX_FIELD_LENGTH + 1];
+        Arrays.fill(largo, 'a');
+        Person p = new Person(1, new String(largo), "a", "b");
+
+        assertThrows(IllegalArgumentException.class, () -> PersonCodec.write(ByteBuffer.allocate(80000), p));
+    }
+
+    @Test
+    public void testFlyweightSeReutiliza(){
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        PersonCodec.write(buffer, personas().get(0));
+        PersonCodec.write(buffer, personas().get(1));
+
+        PersonFlyweight p = new PersonFlyweight().wrap(buffer, 0);
+        assertEquals("andresocampo@s4n.com", p.getCorreo());
+        p.wrap(buffer, p.next());
+        assertEquals("pamela.díaz@s4n.com", p.getCorreo());
+        assertEquals(31, p.getEdad());
+    }
+
+    @Test
+    public void testRegistroCorrupto(){
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        PersonCodec.write(buffer, personas().get(0));
+        int fin = buffer.position();
+        List<Integer> edades = new ArrayList<>();
+
+        // Cola de ceros, como la de un archivo mapeado mas grande que sus datos
+        buffer.position(0).limit(fin + 32);
+        assertThrows(IllegalArgumentException.class, () -> PersonCodec.forEach(buffer, p -> edades.add(p.getEdad())));
+        assertEquals(1, edades.size());
+
+        // Un tamaño que se sale del buffer
+        buffer.putInt(0, fin + 1).position(0).limit(fin);
+        assertThrows(IllegalArgumentException.class, () -> PersonCodec.forEach(buffer, p -> edades.add(p.getEdad())));
+
+        // Menos bytes que un encabezado al final
+        buffer.putInt(0, fin).position(0).limit(fin + 3);
+        assertThrows(IllegalArgumentException.class, () -> PersonCodec.forEach(buffer, p -> { }));
+    }
+}
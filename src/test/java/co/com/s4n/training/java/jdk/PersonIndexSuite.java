@@ -0,0 +1,108 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.HashIndex;
+import co.com.s4n.training.java.Person;
+import co.com.s4n.training.java.PersonTable;
+import co.com.s4n.training.java.SortedIntIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class PersonIndexSuite {
+
+    @Test
+    public void testBuscarPorCorreo(){
+        PersonTable table = PersonTable.of(Arrays.asList(
+                new Person(23, "Andres", "Ocampo", "andresocampo@s4n.com"),
+                new Person(18, "Max", "Ocampo", "max@s4n.com"),
+                new Person(12, "Sin", "Correo", null)));
+        HashIndex<String> porCorreo = table.addIndex(HashIndex.byCorreo());
+
+        assertEquals(1, porCorreo.find("max@s4n.com"));
+        assertEquals(-1, porCorreo.find("nadie@s4n.com"));
+        // Los correos null no se indexan
+        assertEquals(2, porCorreo.size());
+
+        int fila = table.add(new Person(40, "Pamela", "Diaz", "pamela@s4n.com"));
+        assertEquals(fila, porCorreo.find("pamela@s4n.com"));
+
+        table.remove(1);
+        assertEquals(-1, porCorreo.find("max@s4n.com"));
+        assertEquals(0, porCorreo.find("andresocampo@s4n.com"));
+    }
+
+    @Test
+    public void testAgruparPorApellido(){
+        PersonTable table = new PersonTable();
+        HashIndex<String> porApellido = table.addIndex(HashIndex.byApellido());
+        for (int i = 0; i < 100; i++) {
+            table.add(i, "n" + i, "apellido" + (i % 10), "c" + i + "@s4n.com");
+        }
+
+        assertEquals(10, porApellido.distinctKeys());
+        assertEquals(10, porApellido.count("apellido3"));
+        table.remove(3);
+        table.remove(13);
+
+        int[] filas = porApellido.findAll("apellido3");
+        Arrays.sort(filas);
+        assertArrayEquals(new int[]{23, 33, 43, 53, 63, 73, 83, 93}, filas);
+    }
+
+    @Test
+    public void testRangoDeEdad(){
+        PersonTable table = PersonTable.of(Arrays.asList(
+                new Person(23, "Andres", "Ocampo", "a@s4n.com"),
+                new Person(18, "Max", "Ocampo", "b@s4n.com"),
+                new Person(31, "Pamela", "Diaz", "c@s4n.com"),
+                new Person(23, "Peter", "Gomez", "d@s4n.com")));
+        SortedIntIndex porEdad = table.addIndex(SortedIntIndex.byEdad());
+
+        assertArrayEquals(new int[]{1, 0, 3}, porEdad.range(18, 30));
+        assertEquals(4, porEdad.count(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        table.remove(0);
+        table.add(new Person(-5, "Negativo", "X", "e@s4n.com"));
+
+        assertArrayEquals(new int[]{4, 1, 3}, porEdad.range(-10, 23));
+        assertArrayEquals(new int[0], porEdad.range(24, 30));
+        assertEquals(4, porEdad.size());
+    }
+
+    @Test
+    public void testIndicesIgualQueRecorrerLaTabla(){
+        Random random = new Random(42);
+        PersonTable table = new PersonTable();
+        HashIndex<String> porCorreo = table.addIndex(HashIndex.byCorreo());
+        SortedIntIndex porEdad = table.addIndex(SortedIntIndex.byEdad());
+
+        for (int i = 0; i < 5000; i++) {
+            table.add(random.nextInt(100), "n", "a", "c" + i + "@s4n.com");
+            if (i % 3 == 0) {
+                int fila = random.nextInt(table.size());
+                table.remove(fila);
+            }
+            if (i % 500 == 0) {
+                int min = random.nextInt(50);
+                int max = min + random.nextInt(50);
+                long esperado = table.rowsWhereEdad(e -> e >= min && e <= max).count();
+                assertEquals(esperado, porEdad.count(min, max));
+            }
+        }
+
+        assertEquals(table.count(), porCorreo.size());
+        assertEquals(table.count(), porEdad.size());
+        table.rows().forEach(r -> assertEquals(r, porCorreo.find(table.getCorreo(r))));
+        for (int r = 0; r < table.size(); r++) {
+            if (table.isRemoved(r)) {
+                assertEquals(-1, porCorreo.find(table.getCorreo(r)));
+            }
+        }
+    }
+}
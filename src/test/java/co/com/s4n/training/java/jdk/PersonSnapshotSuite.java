@@ -0,0 +1,101 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.Person;
+import co.com.s4n.training.java.PersonFlyweight;
+import co.com.s4n.training.java.PersonSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class PersonSnapshotSuite {
+
+    @Test
+    public void testGuardarYAbrir() throws Exception {
+        List<Person> personas = IntStream.range(0, 20000)
+                .mapToObj(i -> new Person(i % 80, "Nombre" + (i % 300), "Apellido" + (i % 40),
+                        i % 10 == 0 ? null : "correo" + i + "@s4n.com"))
+                .collect(Collectors.toList());
+        Path archivo = Files.createTempFile("personas", ".snapshot");
+        try {
+            assertEquals(20000, PersonSnapshot.write(personas, archivo));
+
+            PersonSnapshot snapshot = PersonSnapshot.open(archivo);
+            assertEquals(20000, snapshot.size());
+            assertEquals(personas.get(12345), snapshot.toPerson(12345));
+            assertEquals(personas.get(19999).getEdad(), snapshot.getEdad(19999));
+            assertNull(snapshot.get(100).getCorreo());
+
+            PersonFlyweight view = new PersonFlyweight();
+            for (int i = 0; i < personas.size(); i += 997) {
+                assertEquals(personas.get(i), snapshot.get(i, view).toPerson());
+            }
+
+            int[] edades = new int[1];
+            snapshot.forEach(p -> edades[0] += p.getEdad());
+            assertEquals(personas.stream().mapToInt(Person::getEdad).sum(), edades[0]);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(20000));
+        } finally {
+            Files.delete(archivo);
+        }
+    }
+
+    @Test
+    public void testReescribirNoAfectaUnSnapshotAbierto() throws Exception {
+        Path dir = Files.createTempDirectory("snapshots");
+        Path archivo = dir.resolve("personas.snapshot");
+        try {
+            List<Person> viejas = IntStream.range(0, 5000)
+                    .mapToObj(i -> new Person(i % 80, "Viejo" + i, "Apellido", "viejo" + i + "@s4n.com"))
+                    .collect(Collectors.toList());
+            PersonSnapshot.write(viejas, archivo);
+            PersonSnapshot abierto = PersonSnapshot.open(archivo);
+
+            PersonSnapshot.write(Collections.singletonList(new Person(30, "Nuevo", "Apellido", null)), archivo);
+
+            // El mapeo anterior sigue leyendo el archivo viejo; el nuevo reemplaza al viejo entero
+            assertEquals(viejas.get(4999), abierto.toPerson(4999));
+            assertEquals(1, PersonSnapshot.open(archivo).size());
+            try (Stream<Path> archivos = Files.list(dir)) {
+                assertEquals(Collections.singletonList(archivo), archivos.collect(Collectors.toList()));
+            }
+        } finally {
+            Files.deleteIfExists(archivo);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void testSnapshotVacio() throws Exception {
+        Path archivo = Files.createTempFile("vacio", ".snapshot");
+        try {
+            PersonSnapshot.write(Collections.emptyList(), archivo);
+            assertEquals(0, PersonSnapshot.open(archivo).size());
+        } finally {
+            Files.delete(archivo);
+        }
+    }
+
+    @Test
+    public void testArchivoQueNoEsSnapshot() throws Exception {
+        Path archivo = Files.createTempFile("otro", ".txt");
+        try {
+            Files.write(archivo, "esto no es un snapshot".getBytes());
+            assertThrows(IOException.class, () -> PersonSnapshot.open(archivo));
+        } finally {
+            Files.delete(archivo);
+        }
+    }
+}
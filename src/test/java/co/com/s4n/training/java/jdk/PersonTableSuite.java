@@ -0,0 +1,77 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.Person;
+import co.com.s4n.training.java.PersonTable;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class PersonTableSuite {
+
+    private List<Person> personas(){
+        return Arrays.asList(
+                new Person(23, "Andres", "Ocampo", "andresocampo@s4n.com"),
+                new Person(18, "Max", "Ocampo", "max@s4n.com"),
+                new Person(31, "Pamela", "Díaz", "pamela.díaz@s4n.com"),
+                new Person(12, "Andres", "Gomez", null));
+    }
+
+    @Test
+    public void testTablaConservaLosDatos(){
+        List<Person> personas = personas();
+        PersonTable table = PersonTable.of(personas);
+
+        assertEquals(4, table.size());
+        for (int r = 0; r < personas.size(); r++) {
+            assertEquals(personas.get(r), table.toPerson(r));
+        }
+        assertNull(table.getCorreo(3));
+        assertEquals("pamela.díaz@s4n.com", table.row(2).getCorreo());
+    }
+
+    @Test
+    public void testNombresRepetidosSeCodificanUnaVez(){
+        PersonTable table = PersonTable.of(personas());
+
+        // Los dos "Andres" y los dos "Ocampo" comparten la misma instancia del diccionario
+        assertSame(table.getNombre(0), table.getNombre(3));
+        assertSame(table.getApellido(0), table.getApellido(1));
+    }
+
+    @Test
+    public void testScanPorEdad(){
+        PersonTable table = new PersonTable(2);
+        for (int i = 0; i < 1000; i++) {
+            table.add(i % 100, "n" + (i % 7), "a" + (i % 3), "c" + i + "@s4n.com");
+        }
+
+        assertEquals(1000, table.size());
+        assertEquals(490, table.countEdadGreaterThan(50));
+        assertEquals(490, table.rowsEdadGreaterThan(50).length);
+        assertEquals(490, table.rowsWhereEdad(e -> e > 50).count());
+        assertEquals("c999@s4n.com", table.getCorreo(999));
+    }
+
+    @Test
+    public void testBorrarFilas(){
+        PersonTable table = PersonTable.of(personas());
+
+        assertTrue(table.remove(0));
+        assertFalse(table.remove(0));
+
+        assertEquals(4, table.size());
+        assertEquals(3, table.count());
+        assertEquals(1, table.countEdadGreaterThan(20));
+        assertArrayEquals(new int[]{2}, table.rowsEdadGreaterThan(20));
+        assertEquals(Arrays.asList("Max", "Pamela", "Andres"),
+                table.rows().mapToObj(table::getNombre).collect(Collectors.toList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getEdad(4));
+    }
+}
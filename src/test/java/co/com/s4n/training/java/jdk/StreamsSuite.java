@@ -1,9 +1,16 @@
 package co.com.s4n.training.java.jdk;
 
+import co.com.s4n.training.java.BufferedPersonCollector;
 import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.ConcurrentPersonCollector;
+import co.com.s4n.training.java.IntGroups;
+import co.com.s4n.training.java.IntKeyGroupingCollector;
+import co.com.s4n.training.java.IntObjects;
 import co.com.s4n.training.java.MyClass;
 import co.com.s4n.training.java.MyClassWithInt;
+import co.com.s4n.training.java.MyClassWithIntArray;
 import co.com.s4n.training.java.PersonCollector;
+import co.com.s4n.training.java.RingBufferPersonTrace;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
@@ -214,6 +221,32 @@ public class StreamsSuite {
 
     }
 
+    @Test
+    public void stramsContienenObjetos4(){
+
+        // Con el constructor como IntFunction no hay que pasar por Integer
+        MyClass[] nuevoArreglo = IntObjects.toArray(IntStream.of(1, 2, 0, 3, 4), MyClass::new, MyClass[]::new);
+        MyClassWithInt[] conInt = IntObjects.myClassesWithInt(1, 2, 0, 3, 4);
+
+        assertTrue(nuevoArreglo.length==5);
+        assertTrue(nuevoArreglo[0].toString().equals("1"));
+        assertTrue(conInt[4].toString().equals("4"));
+    }
+
+    @Test
+    public void stramsContienenObjetosRespaldadosPorArreglo(){
+
+        MyClassWithIntArray nuevaLista = MyClassWithIntArray.of(IntStream.range(0, 1000000));
+
+        assertEquals(1000000, nuevaLista.size());
+        assertEquals("999999", nuevaLista.get(999999).toString());
+        assertEquals(1, nuevaLista.stream().filter(m -> m.toString().equals("1")).count());
+
+        StringBuilder sb = new StringBuilder();
+        new MyClassWithIntArray(new int[]{1, 2, 0}).forEachFlyweight(m -> sb.append(m));
+        assertEquals("120", sb.toString());
+    }
+
     @Test
     public void testStreams10() {
 
@@ -376,6 +409,23 @@ public class StreamsSuite {
 
     }
 
+    @Test
+    public void testStreams18SinBoxing() {
+        List<Person> persons =
+                Arrays.asList(
+                        new Person("Max", 18),
+                        new Person("Peter", 23),
+                        new Person("Pamela", 23),
+                        new Person("David", 12));
+
+        // Igual que testStreams18 pero la edad se usa como int, sin crear un Integer por persona
+        IntGroups<Person> personsByAge = persons
+                .stream()
+                .collect(IntKeyGroupingCollector.groupingBy(p -> p.age));
+
+        assertEquals(Arrays.asList(persons.get(1), persons.get(2)), personsByAge.get(23));
+    }
+
     @Test
     public void testStreams19() {
         List<Person> persons =
@@ -416,6 +466,53 @@ public class StreamsSuite {
 
         System.out.println("persona:" + persona.name);
     }
+
+    @Test
+    public void collectingPersonsConTraza(){
+        RingBufferPersonTrace trace = new RingBufferPersonTrace(2);
+        Stream<CollectablePerson> personas = Stream.of(new CollectablePerson("Juan", 10), new CollectablePerson("Felipe", 20));
+
+        CollectablePerson persona = personas.collect(new PersonCollector(trace));
+
+        assertEquals(" Juan Felipe", persona.name);
+        assertEquals(3, trace.count());
+        // El ring buffer solo conserva las ultimas dos trazas
+        assertEquals(Arrays.asList("accumulator:  Juan Felipe", "finisher:  Juan Felipe 30"), trace.snapshot());
+    }
+
+    @Test
+    public void collectingPersonsBuffered(){
+        Stream<CollectablePerson> personas = Stream.of(new CollectablePerson("Juan", 10), new CollectablePerson("Felipe", 20));
+
+        CollectablePerson persona = personas.collect(new BufferedPersonCollector());
+
+        assertEquals(" Juan Felipe", persona.name);
+        assertEquals(30, persona.age);
+    }
+
+    @Test
+    public void collectingPersonsBufferedEnParalelo(){
+        CollectablePerson persona = IntStream.range(0, 1000)
+                .mapToObj(i -> new CollectablePerson("p", 1))
+                .parallel()
+                .collect(new BufferedPersonCollector());
+
+        assertEquals(2000, persona.name.length());
+        assertEquals(1000, persona.age);
+    }
+
+    @Test
+    public void collectingPersonsConcurrente(){
+        CollectablePerson persona = IntStream.range(0, 10000)
+                .mapToObj(i -> new CollectablePerson(String.valueOf(i % 10), 2))
+                .parallel()
+                .collect(new ConcurrentPersonCollector());
+
+        // El orden de los nombres no esta garantizado, pero no se pierde ninguno
+        assertEquals(20000, persona.name.length());
+        assertEquals(1000, persona.name.chars().filter(c -> c == '7').count());
+        assertEquals(20000, persona.age);
+    }
     //Reduce
     //ParalellStreams
     //https://dzone.com/articles/think-twice-using-java-8
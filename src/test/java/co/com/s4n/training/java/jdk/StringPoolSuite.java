@@ -0,0 +1,68 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.Person;
+import co.com.s4n.training.java.PersonFactory;
+import co.com.s4n.training.java.StringPool;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class StringPoolSuite {
+
+    @Test
+    public void testMismoNombreMismaInstancia(){
+        PersonFactory factory = new PersonFactory();
+        // new String para que no sean el mismo literal
+        Person p1 = factory.person(23, new String("Andres"), new String("Ocampo"), "a@s4n.com");
+        Person p2 = factory.person(30, new String("Andres"), new String("Ocampo"), "b@s4n.com");
+        CollectablePerson c = factory.collectable(new String("Andres"), 10);
+
+        assertSame(p1.getNombre(), p2.getNombre());
+        assertSame(p1.getApellido(), p2.getApellido());
+        assertSame(p1.getNombre(), c.name);
+        assertEquals(3, factory.pool().hits());
+        assertEquals(2, factory.pool().misses());
+    }
+
+    @Test
+    public void testPoolAcotado(){
+        StringPool pool = new StringPool(64);
+        IntStream.range(0, 10000).forEach(i -> pool.intern("nombre" + i));
+
+        assertEquals(64, pool.capacity());
+        assertEquals(10000, pool.misses());
+        assertTrue(pool.evictions() > 0);
+        assertNull(pool.intern(null));
+    }
+
+    @Test
+    public void testValorFrecuenteSobreviveAValoresRaros(){
+        // Con capacidad 2 todos los valores caen en las mismas dos posiciones
+        StringPool pool = new StringPool(2);
+        String frecuente = pool.intern(new String("Andres"));
+        for (int i = 0; i < 1000; i++) {
+            pool.intern("raro" + i);
+            assertSame(frecuente, pool.intern(new String("Andres")));
+        }
+        assertEquals(1000, pool.hits());
+        assertEquals(999, pool.evictions());
+    }
+
+    @Test
+    public void testPoolConcurrente(){
+        StringPool pool = new StringPool(1024);
+        IntStream.range(0, 100000).parallel().forEach(i -> {
+            String s = new String("nombre" + (i % 100));
+            assertEquals(s, pool.intern(s));
+        });
+
+        assertEquals(100000, pool.hits() + pool.misses());
+        assertTrue(pool.hitRate() > 0.9);
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.s4n.training.java.jdk;
+
+import co.com.s4n.training.java.CollectablePerson;
+import co.com.s4n.training.java.IntQuantileSketch;
+import co.com.s4n.training.java.Person;
+import co.com.s4n.training.java.QuantileCollector;
+import co.com.s4n.training.java.TopKCollector;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class TopKAndQuantileSuite {
+
+    @Test
+    public void testLosMasViejos(){
+        List<Person> personas = Arrays.asList(
+                new Person(18, "Max", "Ocampo", "a@s4n.com"),
+                new Person(23, "Peter", "Gomez", "b@s4n.com"),
+                new Person(40, "Pamela", "Diaz", "c@s4n.com"),
+                new Person(12, "David", "Lopez", "d@s4n.com"));
+
+        List<Person> top = personas.stream().collect(TopKCollector.oldest(2));
+
+        assertEquals(Arrays.asList(personas.get(2), personas.get(1)), top);
+        assertEquals(4, personas.stream().collect(TopKCollector.oldest(10)).size());
+    }
+
+    @Test
+    public void testTopKIgualQueOrdenarEnParalelo(){
+        Random random = new Random(7);
+        List<CollectablePerson> personas = IntStream.range(0, 100000)
+                .mapToObj(i -> new CollectablePerson("p" + i, random.nextInt(1000000)))
+                .collect(Collectors.toList());
+
+        List<Integer> esperado = personas.stream()
+                .map(p -> p.age)
+                .sorted(Comparator.reverseOrder())
+                .limit(50)
+                .collect(Collectors.toList());
+        List<Integer> top = personas.parallelStream()
+                .collect(TopKCollector.oldestCollectable(50))
+                .stream().map(p -> p.age).collect(Collectors.toList());
+
+        assertEquals(esperado, top);
+    }
+
+    @Test
+    public void testCuantilesAproximados(){
+        Random random = new Random(11);
+        int[] edades = IntStream.range(0, 1000000).map(i -> random.nextInt(100000)).toArray();
+
+        IntQuantileSketch sketch = Arrays.stream(edades).parallel().boxed()
+                .collect(new QuantileCollector<Integer>(i -> i));
+
+        int[] ordenadas = edades.clone();
+        Arrays.sort(ordenadas);
+        assertEquals(1000000, sketch.getCount());
+        assertEquals(ordenadas[0], sketch.quantile(0));
+        assertEquals(ordenadas[ordenadas.length - 1], sketch.quantile(1));
+        for (double q : new double[]{0.5, 0.95, 0.99}) {
+            int exacto = ordenadas[(int) (q * ordenadas.length) - 1];
+            // Error de rango menor a 2%: con valores uniformes en [0, 100000) son 2000 unidades
+            assertEquals(exacto, sketch.quantile(q), 2000, "q=" + q);
+        }
+        // La memoria no depende del numero de valores
+        assertTrue(sketch.retained() < 2000, "retained=" + sketch.retained());
+    }
+
+    @Test
+    public void testCuantilesDeEdades(){
+        List<Person> personas = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> new Person(i, "n", "a", "c"))
+                .collect(Collectors.toList());
+
+        IntQuantileSketch sketch = personas.stream().collect(QuantileCollector.edades());
+
+        // Con pocos valores el sketch todavia es exacto
+        assertEquals(50, sketch.quantile(0.5));
+        assertEquals(95, sketch.quantile(0.95));
+        assertThrows(IllegalStateException.class, () -> new IntQuantileSketch().quantile(0.5));
+    }
+}
@@ -0,0 +1,52 @@
+package co.com.s4n.training.java.lombok;
+
+import co.com.s4n.training.java.ImmutablePerson;
+import co.com.s4n.training.java.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class ImmutablePersonSuite {
+
+    @Test
+    public void testEqualsYHashCode(){
+        ImmutablePerson p1 = new ImmutablePerson(23, "Andres", "Ocampo", "andresocampo@s4n.com");
+        ImmutablePerson p2 = ImmutablePerson.of(new Person(23, "Andres", "Ocampo", "andresocampo@s4n.com"));
+        ImmutablePerson p3 = new ImmutablePerson(23, "Andres", "Ocampo", "otro@s4n.com");
+        ImmutablePerson p4 = new ImmutablePerson(23, null, null, null);
+
+        assertEquals(p1, p2);
+        assertEquals(p1.hashCode(), p2.hashCode());
+        assertNotEquals(p1, p3);
+        assertNotEquals(p1, p4);
+        assertEquals(p4, new ImmutablePerson(23, null, null, null));
+        assertNotEquals(p1, p1.toPerson());
+        assertEquals(p1.hashCode(), p1.hashCode());
+        assertEquals(new Person(23, "Andres", "Ocampo", "andresocampo@s4n.com"), p1.toPerson());
+    }
+
+    @Test
+    public void testComoLlaveDeGroupingBy(){
+        List<ImmutablePerson> personas = Arrays.asList(
+                new ImmutablePerson(23, "Andres", "Ocampo", "a@s4n.com"),
+                new ImmutablePerson(18, "Max", "Ocampo", "b@s4n.com"),
+                new ImmutablePerson(23, "Andres", "Ocampo", "a@s4n.com"));
+
+        Map<ImmutablePerson, Long> conteo = personas.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertEquals(2, conteo.size());
+        assertEquals(Long.valueOf(2), conteo.get(new ImmutablePerson(23, "Andres", "Ocampo", "a@s4n.com")));
+        assertTrue(personas.get(0).toString().contains("Andres"));
+        assertFalse(personas.get(0).toString().contains("hash"));
+    }
+}
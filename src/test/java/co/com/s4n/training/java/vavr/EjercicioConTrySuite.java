@@ -1,17 +1,24 @@
 package co.com.s4n.training.java.vavr;
 
+import co.com.s4n.training.java.ChannelLineWriter;
 import co.com.s4n.training.java.jdk.EjercicioConTry;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static io.vavr.API.Success;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RunWith(JUnitPlatform.class)
@@ -45,6 +52,28 @@ public class EjercicioConTrySuite {
         assertEquals("FizzBuzz", EjercicioConTry.buzz(15,"Fizz").getOrElse(""));
     }
 
+    @Test
+    public void testFizzBuzzWithTrySuccessConstants(){
+
+        EjercicioConTry.streamNumbers().forEach(x -> {
+            Try<String> esperado = EjercicioConTry.fizz(x)
+                    .flatMap(y -> EjercicioConTry.buzz(x, y))
+                    .flatMap(z -> EjercicioConTry.estaVacio(z, x));
+            Try<String> res = EjercicioConTry.fizzSuccess(x)
+                    .flatMap(y -> EjercicioConTry.buzzSuccess(x, y))
+                    .flatMap(z -> EjercicioConTry.estaVacioSuccess(z, x));
+            assertEquals(esperado, res);
+        });
+
+        // Los resultados constantes son siempre la misma instancia
+        assertSame(EjercicioConTry.FIZZ, EjercicioConTry.fizzSuccess(3));
+        assertSame(EjercicioConTry.EMPTY, EjercicioConTry.fizzSuccess(4));
+        assertSame(EjercicioConTry.BUZZ, EjercicioConTry.buzzSuccess(5, ""));
+        assertSame(EjercicioConTry.FIZZ_BUZZ, EjercicioConTry.buzzSuccess(15, "Fizz"));
+        assertSame(EjercicioConTry.FIZZ, EjercicioConTry.estaVacioSuccess("Fizz", 9));
+        assertEquals(Success("RecoverBuzz"), EjercicioConTry.buzzSuccess(5, "Recover"));
+    }
+
     @Test
     public void testFizzBuzzWithRecover(){
 
@@ -104,4 +133,59 @@ public class EjercicioConTrySuite {
 
         assertTrue(EjercicioConTry.fizzFailure(3).isFailure());
     }
+
+    @Test
+    public void testFizzBuzzWithTryToChannel() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChannelLineWriter writer = new ChannelLineWriter(Channels.newChannel(out), 64);
+
+        // En vez de un println por numero, los resultados se acumulan y se escriben por lotes
+        Try<Long> res = writer.writeAll(EjercicioConTry.streamNumbers().map(x ->
+                EjercicioConTry.fizz(x)
+                        .flatMap(y -> EjercicioConTry.buzz(x, y))
+                        .flatMap(z -> EjercicioConTry.estaVacio(z, x))));
+        writer.close();
+
+        assertEquals(Success(100L), res);
+        String[] lineas = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(100, lineas.length);
+        assertEquals("1", lineas[0]);
+        assertEquals("Fizz", lineas[2]);
+        assertEquals("Buzz", lineas[4]);
+        assertEquals("FizzBuzz", lineas[14]);
+        assertEquals(writer.bytesWritten(), out.size());
+    }
+
+    @Test
+    public void testFizzBuzzWithTryToChannelFailure() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChannelLineWriter writer = new ChannelLineWriter(Channels.newChannel(out));
+
+        Try<Long> res = writer.writeAll(EjercicioConTry.streamNumbers().map(x ->
+                EjercicioConTry.fizzFailure(x)
+                        .flatMap(y -> EjercicioConTry.buzz(x, y))
+                        .flatMap(z -> EjercicioConTry.estaVacio(z, x))));
+        writer.close();
+
+        // Se escriben el 1 y el 2 y el 3 falla
+        assertTrue(res.isFailure());
+        assertArrayEquals("1\n2\n".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testChannelLineWriterConBufferMinimo() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Con el minimo de 4 bytes cabe justo un caracter fuera del plano basico (par sustituto)
+        try (ChannelLineWriter writer = new ChannelLineWriter(Channels.newChannel(out), ChannelLineWriter.MIN_CAPACITY)) {
+            writer.writeLine("𝄞");
+            writer.writeLine("a𝄞b𝄞");
+        }
+        assertEquals("𝄞\na𝄞b𝄞\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> new ChannelLineWriter(Channels.newChannel(out), 3));
+        assertThrows(IllegalArgumentException.class, () -> new ChannelLineWriter(Channels.newChannel(out), 0));
+        assertThrows(IllegalArgumentException.class, () -> new ChannelLineWriter(Channels.newChannel(out), -1));
+    }
 }
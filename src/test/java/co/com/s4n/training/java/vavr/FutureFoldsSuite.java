@@ -0,0 +1,107 @@
+package co.com.s4n.training.java.vavr;
+
+import co.com.s4n.training.java.FutureFolds;
+import io.vavr.CheckedFunction0;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+public class FutureFoldsSuite {
+
+    private ExecutorService es;
+
+    @BeforeEach
+    public void setup(){
+        es = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void tearDown(){
+        es.shutdownNow();
+    }
+
+    @Test
+    public void testFoldParRespetaElOrden(){
+        List<CheckedFunction0<String>> myLista = List.of(() -> "1", () -> "2", () -> "3", () -> "4", () -> "5");
+        Future<String> s = FutureFolds.foldPar(es, 2, myLista, "", (x, y) -> x + y);
+        assertEquals("12345", s.get());
+    }
+
+    @Test
+    public void testFoldParConMuchasEntradasYVentanaAcotada(){
+        AtomicInteger enVuelo = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        List<CheckedFunction0<Integer>> tareas = List.range(0, 10000).map(i -> () -> {
+            maximo.accumulateAndGet(enVuelo.incrementAndGet(), Math::max);
+            enVuelo.decrementAndGet();
+            return i;
+        });
+
+        Future<Integer> fold = FutureFolds.foldPar(es, 4, tareas, 0, (x, y) -> x + y);
+
+        assertEquals(Integer.valueOf(10000 * 9999 / 2), fold.get());
+        assertTrue(maximo.get() <= 4, "Hubo " + maximo.get() + " en vuelo");
+    }
+
+    @Test
+    public void testFoldParVacio(){
+        List<CheckedFunction0<Integer>> vacia = List.empty();
+        assertEquals(Integer.valueOf(0), FutureFolds.foldPar(es, 4, vacia, 0, (x, y) -> x + y).get());
+    }
+
+    @Test
+    public void testSequenceYTraverseEnOrden(){
+        Future<Seq<Integer>> traverse = FutureFolds.traverse(es, 3, List.range(0, 20), i -> {
+            Thread.sleep((20 - i) % 5);
+            return i * 2;
+        });
+        assertEquals(List.range(0, 20).map(i -> i * 2), traverse.get().toList());
+
+        List<CheckedFunction0<String>> myLista = List.of(() -> "a", () -> "b", () -> "c");
+        assertEquals(List.of("a", "b", "c"), FutureFolds.sequence(es, 2, myLista).get().toList());
+    }
+
+    @Test
+    public void testFallaRapidoYCancelaElResto() throws Exception {
+        AtomicInteger lanzadas = new AtomicInteger();
+        CountDownLatch interrumpida = new CountDownLatch(1);
+        List<CheckedFunction0<Integer>> tareas = List.range(0, 100).map(i -> () -> {
+            lanzadas.incrementAndGet();
+            if (i == 1) {
+                throw new Exception("Exception");
+            }
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+                throw e;
+            }
+            return i;
+        });
+
+        long inicio = System.nanoTime();
+        Future<Integer> fold = FutureFolds.foldPar(es, 2, tareas, 0, (x, y) -> x + y);
+        fold.await();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        assertTrue(fold.isFailure());
+        assertEquals("Exception", fold.getCause().get().getMessage());
+        assertTrue(millis < 2000, "Tardo " + millis + "ms");
+        assertTrue(interrumpida.await(1, TimeUnit.SECONDS));
+        assertTrue(lanzadas.get() < 100);
+    }
+}